@@ -7,6 +7,7 @@ plugins {
     kotlin("plugin.spring") version "1.9.23"
     kotlin("plugin.jpa") version "1.9.23"
     id("org.flywaydb.flyway") version "7.12.0"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "camp.nextstep.edu"
@@ -21,6 +22,7 @@ repositories {
 }
 
 dependencies {
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-thymeleaf")
     implementation("org.springframework.boot:spring-boot-starter-validation")
@@ -28,6 +30,9 @@ dependencies {
     implementation("com.fasterxml.jackson.module:jackson-module-kotlin")
     implementation("org.flywaydb:flyway-core")
     implementation("org.flywaydb:flyway-mysql")
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("org.hibernate.orm:hibernate-micrometer")
+    implementation("com.github.ben-manes.caffeine:jcache")
     implementation("org.jetbrains.kotlin:kotlin-reflect")
     runtimeOnly("com.h2database:h2")
     runtimeOnly("com.mysql:mysql-connector-j")
@@ -45,6 +50,16 @@ tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+    includeTests = true
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+}
+
 flyway {
     url = "jdbc:mysql://localhost:33306/kitchenpos"
     user = "user"
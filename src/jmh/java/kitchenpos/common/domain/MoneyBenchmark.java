@@ -0,0 +1,62 @@
+package kitchenpos.common.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+    @Param({"2", "10", "50"})
+    private int menuProductCount;
+
+    private BigDecimal[] bigDecimalPrices;
+    private Money[] moneyPrices;
+    private long[] quantities;
+    private BigDecimal bigDecimalMenuPrice;
+    private Money moneyMenuPrice;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42L);
+        bigDecimalPrices = new BigDecimal[menuProductCount];
+        moneyPrices = new Money[menuProductCount];
+        quantities = new long[menuProductCount];
+        for (int i = 0; i < menuProductCount; i++) {
+            final BigDecimal price = BigDecimal.valueOf(1_000L + random.nextInt(30_000), Money.SCALE);
+            bigDecimalPrices[i] = price;
+            moneyPrices[i] = Money.from(price);
+            quantities[i] = 1L + random.nextInt(3);
+        }
+        bigDecimalMenuPrice = BigDecimal.valueOf(19_000L);
+        moneyMenuPrice = Money.won(19_000L);
+    }
+
+    @Benchmark
+    public boolean bigDecimal() {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int i = 0; i < menuProductCount; i++) {
+            sum = sum.add(bigDecimalPrices[i].multiply(BigDecimal.valueOf(quantities[i])));
+        }
+        return bigDecimalMenuPrice.compareTo(sum) > 0;
+    }
+
+    @Benchmark
+    public boolean money() {
+        Money sum = Money.ZERO;
+        for (int i = 0; i < menuProductCount; i++) {
+            sum = sum.plus(moneyPrices[i].times(quantities[i]));
+        }
+        return moneyMenuPrice.isGreaterThan(sum);
+    }
+}
@@ -0,0 +1,81 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderLineItem;
+import kitchenpos.eatinorders.domain.OrderType;
+import kitchenpos.menus.application.InMemoryMenuRepository;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static kitchenpos.Fixtures.menu;
+import static kitchenpos.Fixtures.menuProduct;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class OrderServiceBenchmark {
+    @Param({"1000", "10000"})
+    private int menuCount;
+
+    @Param({"1", "5", "20"})
+    private int orderLineItemCount;
+
+    private MenuRepository menuRepository;
+    private OrderService orderService;
+    private Order request;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42L);
+        menuRepository = new InMemoryMenuRepository();
+        final List<Menu> menus = new ArrayList<>();
+        for (int i = 0; i < menuCount; i++) {
+            menus.add(menuRepository.save(menu(19_000L, true, menuProduct())));
+        }
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (int i = 0; i < orderLineItemCount; i++) {
+            final Menu menu = menus.get(i * (menuCount / orderLineItemCount));
+            final OrderLineItem orderLineItem = new OrderLineItem();
+            orderLineItem.setMenuId(menu.getId());
+            orderLineItem.setPrice(menu.getPrice());
+            orderLineItem.setQuantity(1L + random.nextInt(3));
+            orderLineItems.add(orderLineItem);
+        }
+        request = new Order();
+        request.setType(OrderType.DELIVERY);
+        request.setDeliveryAddress("서울시 송파구 위례성대로 2");
+        request.setOrderLineItems(orderLineItems);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpOrderService() {
+        orderService = new OrderService(
+            new InMemoryOrderRepository(),
+            menuRepository,
+            new InMemoryOrderTableRepository(),
+            new InMemoryOrderIdempotencyKeyRepository(),
+            new FakeKitchenridersClient(),
+            event -> {
+            }
+        );
+    }
+
+    @Benchmark
+    public Order create() {
+        return orderService.create(request);
+    }
+}
@@ -0,0 +1,89 @@
+package kitchenpos.menus.application;
+
+import kitchenpos.common.domain.Money;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuGroupRepository;
+import kitchenpos.menus.domain.MenuProduct;
+import kitchenpos.products.application.FakePurgomalumClient;
+import kitchenpos.products.application.InMemoryProductPriceChangeRepository;
+import kitchenpos.products.application.InMemoryProductRepository;
+import kitchenpos.products.domain.Product;
+import kitchenpos.products.domain.ProductRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static kitchenpos.Fixtures.menuGroup;
+import static kitchenpos.Fixtures.product;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MenuServiceBenchmark {
+    @Param({"1000", "10000"})
+    private int productCount;
+
+    @Param({"2", "10"})
+    private int menuProductCount;
+
+    private MenuGroupRepository menuGroupRepository;
+    private ProductRepository productRepository;
+    private MenuService menuService;
+    private Menu request;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42L);
+        menuGroupRepository = new InMemoryMenuGroupRepository();
+        productRepository = new InMemoryProductRepository();
+        final UUID menuGroupId = menuGroupRepository.save(menuGroup()).getId();
+        final List<Product> products = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            products.add(productRepository.save(product("후라이드" + i, 1_000L + random.nextInt(30_000))));
+        }
+        final List<MenuProduct> menuProducts = new ArrayList<>();
+        for (int i = 0; i < menuProductCount; i++) {
+            final MenuProduct menuProduct = new MenuProduct();
+            menuProduct.setProductId(products.get(i * (productCount / menuProductCount)).getId());
+            menuProduct.setQuantity(1L);
+            menuProducts.add(menuProduct);
+        }
+        request = new Menu();
+        request.setName("후라이드+양념");
+        request.setPrice(Money.ZERO);
+        request.setMenuGroupId(menuGroupId);
+        request.setDisplayed(true);
+        request.setMenuProducts(menuProducts);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpMenuService() {
+        menuService = new MenuService(
+            new InMemoryMenuRepository(),
+            menuGroupRepository,
+            productRepository,
+            new InMemoryProductPriceChangeRepository(),
+            new FakePurgomalumClient(),
+            event -> {
+            },
+            false
+        );
+    }
+
+    @Benchmark
+    public Menu create() {
+        return menuService.create(request);
+    }
+}
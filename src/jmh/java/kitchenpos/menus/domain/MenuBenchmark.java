@@ -0,0 +1,51 @@
+package kitchenpos.menus.domain;
+
+import kitchenpos.products.domain.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static kitchenpos.Fixtures.menu;
+import static kitchenpos.Fixtures.menuProduct;
+import static kitchenpos.Fixtures.product;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MenuBenchmark {
+    @Param({"100", "1000", "10000"})
+    private int menuCount;
+
+    private Menu[] menus;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42L);
+        menus = new Menu[menuCount];
+        for (int i = 0; i < menuCount; i++) {
+            final Product product = product("후라이드", 1_000L + random.nextInt(30_000));
+            menus[i] = menu(19_000L + random.nextInt(20_000), true, menuProduct(product, 1L + random.nextInt(3)));
+        }
+    }
+
+    @Benchmark
+    public int validateMenuProduct() {
+        int displayedCount = 0;
+        for (final Menu menu : menus) {
+            menu.setDisplayed(true);
+            menu.validateMenuProduct();
+            if (menu.isDisplayed()) {
+                displayedCount++;
+            }
+        }
+        return displayedCount;
+    }
+}
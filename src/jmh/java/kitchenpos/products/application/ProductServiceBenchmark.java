@@ -0,0 +1,79 @@
+package kitchenpos.products.application;
+
+import kitchenpos.common.domain.Money;
+import kitchenpos.menus.application.InMemoryMenuRepository;
+import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.products.domain.Product;
+import kitchenpos.products.domain.ProductRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static kitchenpos.Fixtures.menu;
+import static kitchenpos.Fixtures.menuProduct;
+import static kitchenpos.Fixtures.product;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ProductServiceBenchmark {
+    @Param({"1000", "10000"})
+    private int productCount;
+
+    @Param({"1000", "10000"})
+    private int menuCount;
+
+    private ProductService productService;
+    private List<Product> products;
+    private Product cheaper;
+    private Product pricier;
+    private int sequence;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42L);
+        final ProductRepository productRepository = new InMemoryProductRepository();
+        final MenuRepository menuRepository = new InMemoryMenuRepository();
+        products = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            products.add(productRepository.save(product("후라이드" + i, 16_000L)));
+        }
+        for (int i = 0; i < menuCount; i++) {
+            menuRepository.save(menu(
+                30_000L,
+                true,
+                menuProduct(products.get(random.nextInt(productCount)), 1L),
+                menuProduct(products.get(random.nextInt(productCount)), 1L)
+            ));
+        }
+        productService = new ProductService(
+            productRepository,
+            new MenuRevalidator(menuRepository, new InMemoryProductPriceChangeRepository(), false, Duration.ofSeconds(10)),
+            new FakePurgomalumClient(),
+            event -> {
+            }
+        );
+        cheaper = new Product();
+        cheaper.setPrice(Money.won(15_000L));
+        pricier = new Product();
+        pricier.setPrice(Money.won(16_000L));
+    }
+
+    @Benchmark
+    public Product changePrice() {
+        final int index = sequence++;
+        final Product product = products.get(Math.floorMod(index, productCount));
+        return productService.changePrice(product.getId(), (index / productCount) % 2 == 0 ? cheaper : pricier);
+    }
+}
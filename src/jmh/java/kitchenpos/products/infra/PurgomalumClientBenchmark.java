@@ -0,0 +1,41 @@
+package kitchenpos.products.infra;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PurgomalumClientBenchmark {
+    @Param({"후라이드+양념 반반 세트", "Fried chicken with damn good sauce"})
+    private String name;
+
+    private PurgomalumClient offline;
+    private PurgomalumClient http;
+
+    @Setup
+    public void setUp() {
+        offline = new OfflinePurgomalumClient(new ClassPathResource("profanities.txt"));
+        http = new DefaultPurgomalumClient(new RestTemplateBuilder());
+    }
+
+    @Benchmark
+    public boolean offline() {
+        return offline.containsProfanity(name);
+    }
+
+    @Benchmark
+    public boolean http() {
+        return http.containsProfanity(name);
+    }
+}
@@ -0,0 +1,6 @@
+package kitchenpos.catalog.application;
+
+import java.util.UUID;
+
+public record CatalogItem(UUID id, String name) {
+}
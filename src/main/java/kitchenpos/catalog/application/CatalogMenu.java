@@ -0,0 +1,15 @@
+package kitchenpos.catalog.application;
+
+import kitchenpos.common.domain.Money;
+
+import java.util.List;
+import java.util.UUID;
+
+public record CatalogMenu(
+    UUID id,
+    String name,
+    Money price,
+    UUID menuGroupId,
+    List<CatalogMenuProduct> menuProducts
+) {
+}
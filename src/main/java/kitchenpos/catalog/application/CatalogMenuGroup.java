@@ -0,0 +1,7 @@
+package kitchenpos.catalog.application;
+
+import java.util.List;
+import java.util.UUID;
+
+public record CatalogMenuGroup(UUID id, String name, List<CatalogMenu> menus) {
+}
@@ -0,0 +1,8 @@
+package kitchenpos.catalog.application;
+
+import kitchenpos.common.domain.Money;
+
+import java.util.UUID;
+
+public record CatalogMenuProduct(UUID productId, String name, Money price, long quantity) {
+}
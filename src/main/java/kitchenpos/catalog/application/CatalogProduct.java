@@ -0,0 +1,8 @@
+package kitchenpos.catalog.application;
+
+import kitchenpos.common.domain.Money;
+
+import java.util.UUID;
+
+public record CatalogProduct(UUID id, String name, Money price) {
+}
@@ -0,0 +1,6 @@
+package kitchenpos.catalog.application;
+
+import java.util.List;
+
+public record CatalogSearchResult(List<CatalogItem> products, List<CatalogItem> menus) {
+}
@@ -0,0 +1,56 @@
+package kitchenpos.catalog.application;
+
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuCreatedEvent;
+import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.products.domain.Product;
+import kitchenpos.products.domain.ProductCreatedEvent;
+import kitchenpos.products.domain.ProductRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+
+@Service
+public class CatalogSearchService {
+    private final ProductRepository productRepository;
+    private final MenuRepository menuRepository;
+    private final NameIndex productIndex = new NameIndex();
+    private final NameIndex menuIndex = new NameIndex();
+
+    public CatalogSearchService(final ProductRepository productRepository, final MenuRepository menuRepository) {
+        this.productRepository = productRepository;
+        this.menuRepository = menuRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void build() {
+        for (final Product product : productRepository.findAll()) {
+            productIndex.add(product.getId(), product.getName());
+        }
+        for (final Menu menu : menuRepository.findAll()) {
+            menuIndex.add(menu.getId(), menu.getName());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void productCreated(final ProductCreatedEvent event) {
+        productIndex.add(event.productId(), event.name());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void menuCreated(final MenuCreatedEvent event) {
+        menuIndex.add(event.menuId(), event.name());
+    }
+
+    public CatalogSearchResult search(final String query, final int limit) {
+        if (Objects.isNull(query) || query.isBlank() || limit <= 0) {
+            throw new IllegalArgumentException();
+        }
+        return new CatalogSearchResult(productIndex.search(query, limit), menuIndex.search(query, limit));
+    }
+}
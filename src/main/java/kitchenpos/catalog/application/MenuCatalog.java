@@ -0,0 +1,214 @@
+package kitchenpos.catalog.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.catalog.application.MenuCatalogSnapshot.Entry;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuCatalogChangedEvent;
+import kitchenpos.menus.domain.MenuGroup;
+import kitchenpos.menus.domain.MenuGroupRepository;
+import kitchenpos.menus.domain.MenuProduct;
+import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.products.domain.Product;
+import kitchenpos.products.domain.ProductRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class MenuCatalog {
+    private static final Comparator<Menu> MENU_ORDER = Comparator.comparing(Menu::getName)
+        .thenComparing(Menu::getId);
+    private static final int RETAINED_VERSIONS = 1_024;
+
+    private final MenuRepository menuRepository;
+    private final MenuGroupRepository menuGroupRepository;
+    private final ProductRepository productRepository;
+    private final ObjectMapper objectMapper;
+    private final String epoch = UUID.randomUUID().toString();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final AtomicBoolean menuGroupsChanged = new AtomicBoolean();
+    private final Set<UUID> changedProductIds = ConcurrentHashMap.newKeySet();
+    private volatile MenuCatalogSnapshot snapshot = MenuCatalogSnapshot.EMPTY;
+
+    public MenuCatalog(
+        final MenuRepository menuRepository,
+        final MenuGroupRepository menuGroupRepository,
+        final ProductRepository productRepository,
+        final ObjectMapper objectMapper
+    ) {
+        this.menuRepository = menuRepository;
+        this.menuGroupRepository = menuGroupRepository;
+        this.productRepository = productRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public MenuCatalogSnapshot snapshot() {
+        return snapshot;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void build() {
+        rebuild(true, true, List.of());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void catalogChanged(final MenuCatalogChangedEvent event) {
+        if (event.menuGroupsChanged()) {
+            menuGroupsChanged.set(true);
+        }
+        changedProductIds.addAll(event.productIds());
+        dirty.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.menu.catalog.refresh-interval-ms:1000}")
+    @Transactional(readOnly = true)
+    public boolean refresh() {
+        if (!dirty.compareAndSet(true, false)) {
+            return false;
+        }
+        final boolean reloadMenuGroups = menuGroupsChanged.getAndSet(false);
+        final List<UUID> productIds = new ArrayList<>(changedProductIds);
+        changedProductIds.removeAll(productIds);
+        try {
+            rebuild(false, reloadMenuGroups, productIds);
+        } catch (final RuntimeException e) {
+            if (reloadMenuGroups) {
+                menuGroupsChanged.set(true);
+            }
+            changedProductIds.addAll(productIds);
+            dirty.set(true);
+            throw e;
+        }
+        return true;
+    }
+
+    private synchronized void rebuild(final boolean full, final boolean reloadMenuGroups, final List<UUID> productIds) {
+        final MenuCatalogSnapshot previous = snapshot;
+        final long version = previous.getSequence() + 1L;
+        final long oldestVersion = Math.max(1L, version - RETAINED_VERSIONS + 1L);
+        final List<Menu> menus = new ArrayList<>(menuRepository.findAllByDisplayedTrue());
+        menus.sort(Comparator.comparing((Menu menu) -> menu.getMenuGroup().getName()).thenComparing(MENU_ORDER));
+        final Map<UUID, MenuGroup> menuGroups = new LinkedHashMap<>();
+        final Map<UUID, List<CatalogMenu>> menusByGroup = new HashMap<>();
+        final Map<UUID, CatalogMenu> catalogMenus = new HashMap<>();
+        for (final Menu menu : menus) {
+            final MenuGroup menuGroup = menu.getMenuGroup();
+            final CatalogMenu catalogMenu = toCatalogMenu(menu);
+            menuGroups.putIfAbsent(menuGroup.getId(), menuGroup);
+            menusByGroup.computeIfAbsent(menuGroup.getId(), it -> new ArrayList<>())
+                .add(catalogMenu);
+            catalogMenus.put(catalogMenu.id(), catalogMenu);
+        }
+        final List<CatalogMenuGroup> catalogMenuGroups = new ArrayList<>();
+        for (final MenuGroup menuGroup : menuGroups.values()) {
+            catalogMenuGroups.add(
+                new CatalogMenuGroup(menuGroup.getId(), menuGroup.getName(), List.copyOf(menusByGroup.get(menuGroup.getId())))
+            );
+        }
+        Map<UUID, Entry<CatalogItem>> menuGroupEntries = previous.getMenuGroupEntries();
+        if (reloadMenuGroups) {
+            final Map<UUID, CatalogItem> catalogMenuGroupItems = new HashMap<>();
+            for (final MenuGroup menuGroup : menuGroupRepository.findAll()) {
+                catalogMenuGroupItems.put(menuGroup.getId(), new CatalogItem(menuGroup.getId(), menuGroup.getName()));
+            }
+            menuGroupEntries = entries(menuGroupEntries, catalogMenuGroupItems, version);
+        }
+        final Map<UUID, CatalogProduct> catalogProducts = new HashMap<>();
+        for (final Product product : full ? productRepository.findAll() : productRepository.findAllByIdIn(productIds)) {
+            catalogProducts.put(product.getId(), new CatalogProduct(product.getId(), product.getName(), product.getPrice()));
+        }
+        final Map<UUID, Entry<CatalogProduct>> productEntries = full
+            ? entries(Map.of(), catalogProducts, version)
+            : changedEntries(previous.getProductEntries(), catalogProducts, productIds, version);
+        final Map<UUID, Long> hiddenMenuVersions = new HashMap<>(previous.getHiddenMenuVersions());
+        hiddenMenuVersions.keySet().removeAll(catalogMenus.keySet());
+        for (final UUID menuId : previous.getMenuEntries().keySet()) {
+            if (!catalogMenus.containsKey(menuId)) {
+                hiddenMenuVersions.put(menuId, version);
+            }
+        }
+        hiddenMenuVersions.values().removeIf(hiddenVersion -> hiddenVersion <= oldestVersion);
+        try {
+            snapshot = new MenuCatalogSnapshot(
+                epoch,
+                version,
+                oldestVersion,
+                catalogMenuGroups,
+                objectMapper.writeValueAsBytes(catalogMenuGroups),
+                menuGroupEntries,
+                productEntries,
+                entries(previous.getMenuEntries(), catalogMenus, version),
+                hiddenMenuVersions
+            );
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static <T> Map<UUID, Entry<T>> entries(
+        final Map<UUID, Entry<T>> previous,
+        final Map<UUID, T> items,
+        final long version
+    ) {
+        final Map<UUID, Entry<T>> entries = new HashMap<>();
+        items.forEach((id, item) -> {
+            final Entry<T> entry = previous.get(id);
+            if (entry != null && entry.item().equals(item)) {
+                entries.put(id, entry);
+                return;
+            }
+            entries.put(id, new Entry<>(item, version));
+        });
+        return entries;
+    }
+
+    private static <T> Map<UUID, Entry<T>> changedEntries(
+        final Map<UUID, Entry<T>> previous,
+        final Map<UUID, T> items,
+        final List<UUID> ids,
+        final long version
+    ) {
+        final Map<UUID, Entry<T>> entries = new HashMap<>(previous);
+        for (final UUID id : ids) {
+            final T item = items.get(id);
+            if (item == null) {
+                entries.remove(id);
+                continue;
+            }
+            final Entry<T> entry = previous.get(id);
+            if (entry == null || !entry.item().equals(item)) {
+                entries.put(id, new Entry<>(item, version));
+            }
+        }
+        return entries;
+    }
+
+    private static CatalogMenu toCatalogMenu(final Menu menu) {
+        final List<CatalogMenuProduct> menuProducts = new ArrayList<>();
+        for (final MenuProduct menuProduct : menu.getMenuProducts()) {
+            final Product product = menuProduct.getProduct();
+            menuProducts.add(
+                new CatalogMenuProduct(product.getId(), product.getName(), product.getPrice(), menuProduct.getQuantity())
+            );
+        }
+        return new CatalogMenu(
+            menu.getId(), menu.getName(), menu.getPrice(), menu.getMenuGroup().getId(), List.copyOf(menuProducts)
+        );
+    }
+}
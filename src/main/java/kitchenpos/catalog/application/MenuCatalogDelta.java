@@ -0,0 +1,14 @@
+package kitchenpos.catalog.application;
+
+import java.util.List;
+import java.util.UUID;
+
+public record MenuCatalogDelta(
+    String version,
+    boolean full,
+    List<CatalogItem> menuGroups,
+    List<CatalogProduct> products,
+    List<CatalogMenu> menus,
+    List<UUID> hiddenMenuIds
+) {
+}
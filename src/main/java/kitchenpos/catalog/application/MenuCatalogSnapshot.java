@@ -0,0 +1,122 @@
+package kitchenpos.catalog.application;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+public final class MenuCatalogSnapshot {
+    static final MenuCatalogSnapshot EMPTY = new MenuCatalogSnapshot(
+        null, 0L, 0L, List.of(), "[]".getBytes(StandardCharsets.UTF_8), Map.of(), Map.of(), Map.of(), Map.of()
+    );
+
+    private final String epoch;
+    private final long sequence;
+    private final long oldestSequence;
+    private final List<CatalogMenuGroup> menuGroups;
+    private final byte[] json;
+    private final Map<UUID, Entry<CatalogItem>> menuGroupEntries;
+    private final Map<UUID, Entry<CatalogProduct>> productEntries;
+    private final Map<UUID, Entry<CatalogMenu>> menuEntries;
+    private final Map<UUID, Long> hiddenMenuVersions;
+
+    MenuCatalogSnapshot(
+        final String epoch,
+        final long sequence,
+        final long oldestSequence,
+        final List<CatalogMenuGroup> menuGroups,
+        final byte[] json,
+        final Map<UUID, Entry<CatalogItem>> menuGroupEntries,
+        final Map<UUID, Entry<CatalogProduct>> productEntries,
+        final Map<UUID, Entry<CatalogMenu>> menuEntries,
+        final Map<UUID, Long> hiddenMenuVersions
+    ) {
+        this.epoch = epoch;
+        this.sequence = sequence;
+        this.oldestSequence = oldestSequence;
+        this.menuGroups = List.copyOf(menuGroups);
+        this.json = json;
+        this.menuGroupEntries = Map.copyOf(menuGroupEntries);
+        this.productEntries = Map.copyOf(productEntries);
+        this.menuEntries = Map.copyOf(menuEntries);
+        this.hiddenMenuVersions = Map.copyOf(hiddenMenuVersions);
+    }
+
+    public String getVersion() {
+        return epoch + ":" + sequence;
+    }
+
+    public List<CatalogMenuGroup> getMenuGroups() {
+        return menuGroups;
+    }
+
+    public byte[] toJson() {
+        return json.clone();
+    }
+
+    public MenuCatalogDelta changesSince(final String since) {
+        final long sinceSequence = sequenceOf(since);
+        if (sinceSequence < oldestSequence || sinceSequence > sequence) {
+            return new MenuCatalogDelta(
+                getVersion(), true, items(menuGroupEntries.values(), -1L), items(productEntries.values(), -1L),
+                items(menuEntries.values(), -1L), List.of()
+            );
+        }
+        final List<UUID> hiddenMenuIds = hiddenMenuVersions.entrySet()
+            .stream()
+            .filter(entry -> entry.getValue() > sinceSequence)
+            .map(Map.Entry::getKey)
+            .toList();
+        return new MenuCatalogDelta(
+            getVersion(), false, items(menuGroupEntries.values(), sinceSequence),
+            items(productEntries.values(), sinceSequence), items(menuEntries.values(), sinceSequence), hiddenMenuIds
+        );
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    Map<UUID, Entry<CatalogItem>> getMenuGroupEntries() {
+        return menuGroupEntries;
+    }
+
+    Map<UUID, Entry<CatalogProduct>> getProductEntries() {
+        return productEntries;
+    }
+
+    Map<UUID, Entry<CatalogMenu>> getMenuEntries() {
+        return menuEntries;
+    }
+
+    Map<UUID, Long> getHiddenMenuVersions() {
+        return hiddenMenuVersions;
+    }
+
+    private long sequenceOf(final String version) {
+        if (Objects.isNull(version) || Objects.isNull(epoch)) {
+            return -1L;
+        }
+        final int separator = version.lastIndexOf(':');
+        if (separator < 0 || !epoch.equals(version.substring(0, separator))) {
+            return -1L;
+        }
+        try {
+            return Long.parseLong(version.substring(separator + 1));
+        } catch (final NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private static <T> List<T> items(final Collection<Entry<T>> entries, final long since) {
+        return entries.stream()
+            .filter(entry -> entry.version() > since)
+            .map(Entry::item)
+            .toList();
+    }
+
+    record Entry<T>(T item, long version) {
+    }
+}
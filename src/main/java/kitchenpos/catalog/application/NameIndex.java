@@ -0,0 +1,81 @@
+package kitchenpos.catalog.application;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class NameIndex {
+    private static final int GRAM_SIZE = 2;
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Set<UUID>> postings = new ConcurrentHashMap<>();
+
+    public void add(final UUID id, final String name) {
+        final Entry entry = new Entry(id, name, normalize(name));
+        entries.put(id, entry);
+        for (final String gram : grams(entry.normalizedName())) {
+            postings.computeIfAbsent(gram, it -> ConcurrentHashMap.newKeySet())
+                .add(id);
+        }
+    }
+
+    public List<CatalogItem> search(final String query, final int limit) {
+        final String normalizedQuery = normalize(query);
+        if (normalizedQuery.isEmpty()) {
+            return List.of();
+        }
+        final List<Set<UUID>> candidates = new ArrayList<>();
+        for (final String gram : grams(normalizedQuery)) {
+            if (normalizedQuery.length() >= GRAM_SIZE && gram.length() < GRAM_SIZE) {
+                continue;
+            }
+            final Set<UUID> posting = postings.get(gram);
+            if (posting == null) {
+                return List.of();
+            }
+            candidates.add(posting);
+        }
+        candidates.sort(Comparator.comparingInt(Set::size));
+        final List<CatalogItem> items = new ArrayList<>();
+        for (final UUID id : candidates.get(0)) {
+            if (items.size() >= limit) {
+                break;
+            }
+            final Entry entry = entries.get(id);
+            if (entry != null && entry.normalizedName().contains(normalizedQuery)) {
+                items.add(new CatalogItem(entry.id(), entry.name()));
+            }
+        }
+        return items;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    static String normalize(final String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKD)
+            .toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> grams(final String text) {
+        final Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + GRAM_SIZE <= text.length()) {
+                grams.add(text.substring(i, i + GRAM_SIZE));
+            }
+        }
+        return grams;
+    }
+
+    private record Entry(UUID id, String name, String normalizedName) {
+    }
+}
@@ -0,0 +1,27 @@
+package kitchenpos.catalog.ui;
+
+import kitchenpos.catalog.application.CatalogSearchResult;
+import kitchenpos.catalog.application.CatalogSearchService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequestMapping("/api/catalog/search")
+@RestController
+public class CatalogSearchRestController {
+    private final CatalogSearchService catalogSearchService;
+
+    public CatalogSearchRestController(final CatalogSearchService catalogSearchService) {
+        this.catalogSearchService = catalogSearchService;
+    }
+
+    @GetMapping
+    public ResponseEntity<CatalogSearchResult> search(
+        @RequestParam final String q,
+        @RequestParam(defaultValue = "20") final int limit
+    ) {
+        return ResponseEntity.ok(catalogSearchService.search(q, limit));
+    }
+}
@@ -0,0 +1,32 @@
+package kitchenpos.catalog.ui;
+
+import kitchenpos.catalog.application.MenuCatalog;
+import kitchenpos.catalog.application.MenuCatalogDelta;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequestMapping("/api/catalog/menus")
+@RestController
+public class MenuCatalogRestController {
+    private final MenuCatalog menuCatalog;
+
+    public MenuCatalogRestController(final MenuCatalog menuCatalog) {
+        this.menuCatalog = menuCatalog;
+    }
+
+    @GetMapping
+    public ResponseEntity<byte[]> findAll() {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(menuCatalog.snapshot().toJson());
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<MenuCatalogDelta> findChanges(@RequestParam(required = false) final String since) {
+        return ResponseEntity.ok(menuCatalog.snapshot().changesSince(since));
+    }
+}
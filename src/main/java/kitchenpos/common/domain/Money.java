@@ -0,0 +1,103 @@
+package kitchenpos.common.domain;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public final class Money implements Comparable<Money> {
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0L);
+
+    private static final long MINOR_UNITS_PER_WON = 100L;
+
+    private final long minorUnits;
+
+    private Money(final long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money won(final long amount) {
+        return new Money(Math.multiplyExact(amount, MINOR_UNITS_PER_WON));
+    }
+
+    public static Money ofMinorUnits(final long minorUnits) {
+        return new Money(minorUnits);
+    }
+
+    @JsonCreator
+    public static Money from(final BigDecimal amount) {
+        if (amount == null) {
+            throw new IllegalArgumentException();
+        }
+        try {
+            return new Money(
+                amount.setScale(SCALE, RoundingMode.UNNECESSARY)
+                    .unscaledValue()
+                    .longValueExact()
+            );
+        } catch (final ArithmeticException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    public Money plus(final Money other) {
+        return new Money(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(final Money other) {
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public Money times(final long quantity) {
+        return new Money(Math.multiplyExact(minorUnits, quantity));
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0L;
+    }
+
+    public boolean isGreaterThan(final Money other) {
+        return minorUnits > other.minorUnits;
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(final Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Money money)) {
+            return false;
+        }
+        return minorUnits == money.minorUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
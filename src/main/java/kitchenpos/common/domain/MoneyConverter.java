@@ -0,0 +1,25 @@
+package kitchenpos.common.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+    @Override
+    public BigDecimal convertToDatabaseColumn(final Money attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        return attribute.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(final BigDecimal dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        return Money.from(dbData);
+    }
+}
@@ -0,0 +1,38 @@
+package kitchenpos.common.ui;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+public final class CursorPage {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private CursorPage() {
+    }
+
+    public static int size(final Integer size) {
+        if (Objects.isNull(size)) {
+            return DEFAULT_SIZE;
+        }
+        if (size <= 0 || size > MAX_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST);
+        }
+        return size;
+    }
+
+    public static <T> ResponseEntity<List<T>> of(final List<T> items, final int size, final Function<T, UUID> cursor) {
+        if (items.size() < size) {
+            return ResponseEntity.ok(items);
+        }
+        return ResponseEntity.ok()
+            .header(NEXT_CURSOR_HEADER, cursor.apply(items.get(items.size() - 1)).toString())
+            .body(items);
+    }
+}
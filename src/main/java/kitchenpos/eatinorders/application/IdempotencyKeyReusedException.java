@@ -0,0 +1,11 @@
+package kitchenpos.eatinorders.application;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+public class IdempotencyKeyReusedException extends IllegalStateException {
+    public IdempotencyKeyReusedException() {
+        super("idempotency key was already used for a different request");
+    }
+}
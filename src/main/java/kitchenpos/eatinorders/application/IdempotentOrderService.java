@@ -0,0 +1,240 @@
+package kitchenpos.eatinorders.application;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderIdempotencyKey;
+import kitchenpos.eatinorders.domain.OrderIdempotencyKeyRepository;
+import kitchenpos.eatinorders.domain.OrderLineItem;
+import kitchenpos.eatinorders.domain.OrderRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class IdempotentOrderService implements MeterBinder {
+    private static final int MAXIMUM_KEY_LENGTH = 255;
+
+    private final OrderService orderService;
+    private final OrderRepository orderRepository;
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private final long maximumSize;
+    private final Duration timeToLive;
+    private final Duration waitTimeout;
+    private final Clock clock;
+    private final Map<String, Submission> submissions = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong replayCount = new AtomicLong();
+
+    @Autowired
+    public IdempotentOrderService(
+        final OrderService orderService,
+        final OrderRepository orderRepository,
+        final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository,
+        @Value("${kitchenpos.order.idempotency.maximum-size:10000}") final long maximumSize,
+        @Value("${kitchenpos.order.idempotency.time-to-live:24h}") final Duration timeToLive,
+        @Value("${kitchenpos.order.idempotency.wait-timeout:10s}") final Duration waitTimeout
+    ) {
+        this(
+            orderService,
+            orderRepository,
+            orderIdempotencyKeyRepository,
+            maximumSize,
+            timeToLive,
+            waitTimeout,
+            Clock.systemDefaultZone()
+        );
+    }
+
+    IdempotentOrderService(
+        final OrderService orderService,
+        final OrderRepository orderRepository,
+        final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository,
+        final long maximumSize,
+        final Duration timeToLive,
+        final Duration waitTimeout,
+        final Clock clock
+    ) {
+        if (maximumSize <= 0 || timeToLive.isNegative() || timeToLive.isZero()
+            || waitTimeout.isNegative() || waitTimeout.isZero()) {
+            throw new IllegalArgumentException();
+        }
+        this.orderService = orderService;
+        this.orderRepository = orderRepository;
+        this.orderIdempotencyKeyRepository = orderIdempotencyKeyRepository;
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive;
+        this.waitTimeout = waitTimeout;
+        this.clock = clock;
+    }
+
+    public Order create(final String idempotencyKey, final Order request) {
+        if (Objects.isNull(idempotencyKey)) {
+            return orderService.create(request);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAXIMUM_KEY_LENGTH) {
+            throw new IllegalArgumentException();
+        }
+        final String requestHash = hash(request);
+        final Submission submission = new Submission(
+            new CompletableFuture<>(),
+            requestHash,
+            clock.instant().plus(timeToLive)
+        );
+        final Submission previous = putIfAbsent(idempotencyKey, submission);
+        if (Objects.nonNull(previous)) {
+            if (!previous.requestHash().equals(requestHash)) {
+                throw new IdempotencyKeyReusedException();
+            }
+            replayCount.incrementAndGet();
+            return findOrder(await(previous.orderId()));
+        }
+        try {
+            final Order order = createOnce(idempotencyKey, request, requestHash);
+            submission.orderId().complete(order.getId());
+            return order;
+        } catch (final RuntimeException e) {
+            remove(idempotencyKey, submission);
+            submission.orderId().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.order.idempotency.purge-interval-ms:600000}")
+    @Transactional
+    public int purgeExpired() {
+        evictExpired();
+        return orderIdempotencyKeyRepository.deleteAllByCreatedAtBefore(
+            LocalDateTime.ofInstant(clock.instant().minus(timeToLive), clock.getZone())
+        );
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("kitchenpos.order.idempotency.replays", replayCount, AtomicLong::get)
+            .register(registry);
+        Gauge.builder("kitchenpos.order.idempotency.size", this, IdempotentOrderService::size)
+            .register(registry);
+    }
+
+    private Order createOnce(final String idempotencyKey, final Order request, final String requestHash) {
+        final Optional<OrderIdempotencyKey> persisted = orderIdempotencyKeyRepository.findById(idempotencyKey);
+        if (persisted.isPresent()) {
+            return replay(persisted.get(), requestHash);
+        }
+        try {
+            return orderService.create(request, idempotencyKey, requestHash);
+        } catch (final DataIntegrityViolationException e) {
+            final OrderIdempotencyKey concurrent = orderIdempotencyKeyRepository.findById(idempotencyKey)
+                .orElseThrow(() -> e);
+            return replay(concurrent, requestHash);
+        }
+    }
+
+    private Order replay(final OrderIdempotencyKey orderIdempotencyKey, final String requestHash) {
+        if (!orderIdempotencyKey.matches(requestHash)) {
+            throw new IdempotencyKeyReusedException();
+        }
+        replayCount.incrementAndGet();
+        return findOrder(orderIdempotencyKey.getOrderId());
+    }
+
+    private Order findOrder(final UUID orderId) {
+        return orderRepository.findById(orderId)
+            .orElseThrow(NoSuchElementException::new);
+    }
+
+    private UUID await(final CompletableFuture<UUID> orderId) {
+        try {
+            return orderId.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (final TimeoutException e) {
+            throw new IllegalStateException(e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    static String hash(final Order request) {
+        final StringBuilder builder = new StringBuilder()
+            .append(request.getType()).append('\u0000')
+            .append(request.getOrderTableId()).append('\u0000')
+            .append(request.getDeliveryAddress());
+        if (Objects.nonNull(request.getOrderLineItems())) {
+            for (final OrderLineItem orderLineItem : request.getOrderLineItems()) {
+                builder.append('\u0000').append(orderLineItem.getMenuId())
+                    .append('\u0000').append(orderLineItem.getQuantity())
+                    .append('\u0000').append(orderLineItem.getPrice());
+            }
+        }
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(builder.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private synchronized Submission putIfAbsent(final String idempotencyKey, final Submission submission) {
+        final Submission previous = submissions.get(idempotencyKey);
+        if (Objects.nonNull(previous) && !previous.isExpired(clock.instant())) {
+            return previous;
+        }
+        submissions.put(idempotencyKey, submission);
+        final Iterator<Submission> iterator = submissions.values().iterator();
+        while (iterator.hasNext() && submissions.size() > maximumSize) {
+            iterator.next();
+            iterator.remove();
+        }
+        return null;
+    }
+
+    private synchronized void remove(final String idempotencyKey, final Submission submission) {
+        submissions.remove(idempotencyKey, submission);
+    }
+
+    private synchronized void evictExpired() {
+        final Instant now = clock.instant();
+        submissions.values().removeIf(submission -> submission.isExpired(now));
+    }
+
+    private synchronized int size() {
+        return submissions.size();
+    }
+
+    private record Submission(CompletableFuture<UUID> orderId, String requestHash, Instant expiresAt) {
+        boolean isExpired(final Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.OrderStatus;
+import kitchenpos.eatinorders.domain.OrderType;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+public record OrderEvent(String id, UUID orderId, OrderType type, OrderStatus status, LocalDateTime changedAt) {
+    public boolean matches(final OrderType type, final OrderStatus status) {
+        return (Objects.isNull(type) || this.type == type) && (Objects.isNull(status) || this.status == status);
+    }
+}
@@ -0,0 +1,212 @@
+package kitchenpos.eatinorders.application;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import kitchenpos.eatinorders.domain.OrderStatus;
+import kitchenpos.eatinorders.domain.OrderStatusChangedEvent;
+import kitchenpos.eatinorders.domain.OrderType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+@Component
+public class OrderEventStream implements MeterBinder {
+    private final int bufferSize;
+    private final int queueSize;
+    private final Executor executor;
+    private final Deque<OrderEvent> recentEvents = new ArrayDeque<>();
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final AtomicLong overflowCount = new AtomicLong();
+    private final String epoch = UUID.randomUUID().toString();
+    private long lastSequence;
+
+    @Autowired
+    public OrderEventStream(
+        @Value("${kitchenpos.order.event-stream.buffer-size:10000}") final int bufferSize,
+        @Value("${kitchenpos.order.event-stream.queue-size:1000}") final int queueSize
+    ) {
+        this(bufferSize, queueSize, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    OrderEventStream(final int bufferSize, final int queueSize, final Executor executor) {
+        if (bufferSize <= 0 || queueSize <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.bufferSize = bufferSize;
+        this.queueSize = queueSize;
+        this.executor = executor;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void orderStatusChanged(final OrderStatusChangedEvent event) {
+        final OrderEvent orderEvent = new OrderEvent(
+            epoch + ":" + ++lastSequence,
+            event.orderId(),
+            event.type(),
+            event.status(),
+            event.changedAt()
+        );
+        recentEvents.addLast(orderEvent);
+        if (recentEvents.size() > bufferSize) {
+            recentEvents.removeFirst();
+        }
+        for (final Subscription subscription : subscriptions) {
+            subscription.offer(orderEvent);
+        }
+    }
+
+    public synchronized Subscription subscribe(
+        final String lastEventId,
+        final OrderType type,
+        final OrderStatus status,
+        final Consumer<OrderEvent> consumer,
+        final Runnable onCancel
+    ) {
+        final long sequence = sequenceOf(lastEventId);
+        final List<OrderEvent> missed = isResumable(sequence) ? missedEvents(sequence, type, status) : List.of();
+        final boolean resumed = Objects.isNull(lastEventId)
+            || isResumable(sequence) && missed.size() <= queueSize;
+        final Subscription subscription = new Subscription(type, status, consumer, onCancel, resumed);
+        subscriptions.add(subscription);
+        if (resumed) {
+            missed.forEach(subscription::offer);
+        }
+        return subscription;
+    }
+
+    public int subscriptionCount() {
+        return subscriptions.size();
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("kitchenpos.order.event-stream.subscriptions", this, OrderEventStream::subscriptionCount)
+            .register(registry);
+        FunctionCounter.builder("kitchenpos.order.event-stream.overflows", overflowCount, AtomicLong::get)
+            .register(registry);
+    }
+
+    private long sequenceOf(final String lastEventId) {
+        if (Objects.isNull(lastEventId)) {
+            return 0L;
+        }
+        final int separator = lastEventId.lastIndexOf(':');
+        if (separator < 0 || !epoch.equals(lastEventId.substring(0, separator))) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(separator + 1));
+        } catch (final NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private boolean isResumable(final long sequence) {
+        return sequence > 0L && sequence <= lastSequence && sequence >= lastSequence - recentEvents.size();
+    }
+
+    private List<OrderEvent> missedEvents(final long sequence, final OrderType type, final OrderStatus status) {
+        final List<OrderEvent> missed = new ArrayList<>();
+        long skipped = recentEvents.size() - (lastSequence - sequence);
+        for (final OrderEvent event : recentEvents) {
+            if (skipped-- <= 0 && event.matches(type, status)) {
+                missed.add(event);
+            }
+        }
+        return missed;
+    }
+
+    public class Subscription {
+        private final OrderType type;
+        private final OrderStatus status;
+        private final Consumer<OrderEvent> consumer;
+        private final Runnable onCancel;
+        private final boolean resumed;
+        private final Queue<OrderEvent> queue = new ArrayBlockingQueue<>(queueSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        private Subscription(
+            final OrderType type,
+            final OrderStatus status,
+            final Consumer<OrderEvent> consumer,
+            final Runnable onCancel,
+            final boolean resumed
+        ) {
+            this.type = type;
+            this.status = status;
+            this.consumer = consumer;
+            this.onCancel = onCancel;
+            this.resumed = resumed;
+        }
+
+        public boolean isResumed() {
+            return resumed;
+        }
+
+        public boolean isCancelled() {
+            return cancelled.get();
+        }
+
+        public void cancel() {
+            if (!cancelled.compareAndSet(false, true)) {
+                return;
+            }
+            subscriptions.remove(this);
+            queue.clear();
+            onCancel.run();
+        }
+
+        private void offer(final OrderEvent event) {
+            if (isCancelled() || !event.matches(type, status)) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                overflowCount.incrementAndGet();
+                cancel();
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            OrderEvent event;
+            while (!isCancelled() && Objects.nonNull(event = queue.poll())) {
+                try {
+                    consumer.accept(event);
+                } catch (final RuntimeException e) {
+                    cancel();
+                }
+            }
+            draining.set(false);
+            if (!isCancelled() && !queue.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
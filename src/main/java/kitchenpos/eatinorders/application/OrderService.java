@@ -1,43 +1,76 @@
 package kitchenpos.eatinorders.application;
 
+import kitchenpos.common.domain.Money;
 import kitchenpos.deliveryorders.infra.KitchenridersClient;
 import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderIdempotencyKey;
+import kitchenpos.eatinorders.domain.OrderIdempotencyKeyRepository;
 import kitchenpos.eatinorders.domain.OrderLineItem;
 import kitchenpos.eatinorders.domain.OrderRepository;
+import kitchenpos.eatinorders.domain.OrderSearchCondition;
 import kitchenpos.eatinorders.domain.OrderStatus;
+import kitchenpos.eatinorders.domain.OrderStatusChangedEvent;
 import kitchenpos.eatinorders.domain.OrderTable;
 import kitchenpos.eatinorders.domain.OrderTableRepository;
+import kitchenpos.eatinorders.domain.OrderTransition;
 import kitchenpos.eatinorders.domain.OrderType;
-import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuPriceView;
 import kitchenpos.menus.domain.MenuRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class OrderService {
+    private static final UUID FIRST_CURSOR = new UUID(0L, 0L);
+    private static final Set<OrderType> ALL_TYPES = EnumSet.allOf(OrderType.class);
+
     private final OrderRepository orderRepository;
     private final MenuRepository menuRepository;
     private final OrderTableRepository orderTableRepository;
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
     private final KitchenridersClient kitchenridersClient;
+    private final ApplicationEventPublisher eventPublisher;
 
     public OrderService(
         final OrderRepository orderRepository,
         final MenuRepository menuRepository,
         final OrderTableRepository orderTableRepository,
-        final KitchenridersClient kitchenridersClient
+        final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository,
+        final KitchenridersClient kitchenridersClient,
+        final ApplicationEventPublisher eventPublisher
     ) {
         this.orderRepository = orderRepository;
         this.menuRepository = menuRepository;
         this.orderTableRepository = orderTableRepository;
+        this.orderIdempotencyKeyRepository = orderIdempotencyKeyRepository;
         this.kitchenridersClient = kitchenridersClient;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional
+    public Order create(final Order request, final String idempotencyKey, final String requestHash) {
+        final Order order = create(request);
+        orderIdempotencyKeyRepository.save(
+            new OrderIdempotencyKey(idempotencyKey, order.getId(), requestHash, order.getOrderDateTime())
+        );
+        return order;
     }
 
     @Transactional
@@ -50,11 +83,13 @@ public class OrderService {
         if (Objects.isNull(orderLineItemRequests) || orderLineItemRequests.isEmpty()) {
             throw new IllegalArgumentException();
         }
-        final List<Menu> menus = menuRepository.findAllByIdIn(
-            orderLineItemRequests.stream()
-                .map(OrderLineItem::getMenuId)
-                .toList()
-        );
+        final Map<UUID, MenuPriceView> menus = menuRepository.findAllPriceViewsByIdIn(
+                orderLineItemRequests.stream()
+                    .map(OrderLineItem::getMenuId)
+                    .toList()
+            )
+            .stream()
+            .collect(Collectors.toMap(MenuPriceView::id, Function.identity()));
         if (menus.size() != orderLineItemRequests.size()) {
             throw new IllegalArgumentException();
         }
@@ -66,16 +101,18 @@ public class OrderService {
                     throw new IllegalArgumentException();
                 }
             }
-            final Menu menu = menuRepository.findById(orderLineItemRequest.getMenuId())
-                .orElseThrow(NoSuchElementException::new);
-            if (!menu.isDisplayed()) {
+            final MenuPriceView menu = menus.get(orderLineItemRequest.getMenuId());
+            if (Objects.isNull(menu)) {
+                throw new NoSuchElementException();
+            }
+            if (!menu.displayed()) {
                 throw new IllegalStateException();
             }
-            if (menu.getPrice().compareTo(orderLineItemRequest.getPrice()) != 0) {
+            if (!menu.price().equals(orderLineItemRequest.getPrice())) {
                 throw new IllegalArgumentException();
             }
             final OrderLineItem orderLineItem = new OrderLineItem();
-            orderLineItem.setMenu(menu);
+            orderLineItem.setMenu(menuRepository.getReferenceById(menu.id()));
             orderLineItem.setQuantity(quantity);
             orderLineItems.add(orderLineItem);
         }
@@ -100,94 +137,221 @@ public class OrderService {
             }
             order.setOrderTable(orderTable);
         }
-        return orderRepository.save(order);
+        final Order saved = orderRepository.save(order);
+        publishStatusChanged(saved);
+        return saved;
     }
 
     @Transactional
     public Order accept(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getStatus() != OrderStatus.WAITING) {
-            throw new IllegalStateException();
-        }
-        if (order.getType() == OrderType.DELIVERY) {
-            BigDecimal sum = BigDecimal.ZERO;
-            for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
-                sum = orderLineItem.getMenu()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(orderLineItem.getQuantity()));
-            }
-            kitchenridersClient.requestDelivery(orderId, sum, order.getDeliveryAddress());
-        }
-        order.setStatus(OrderStatus.ACCEPTED);
-        return order;
+        return changeOne(OrderTransition.ACCEPT, orderId);
     }
 
     @Transactional
     public Order serve(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getStatus() != OrderStatus.ACCEPTED) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.SERVED);
-        return order;
+        return changeOne(OrderTransition.SERVE, orderId);
     }
 
     @Transactional
     public Order startDelivery(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getType() != OrderType.DELIVERY) {
-            throw new IllegalStateException();
-        }
-        if (order.getStatus() != OrderStatus.SERVED) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.DELIVERING);
-        return order;
+        return changeOne(OrderTransition.START_DELIVERY, orderId);
     }
 
     @Transactional
     public Order completeDelivery(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        if (order.getStatus() != OrderStatus.DELIVERING) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.DELIVERED);
-        return order;
+        return changeOne(OrderTransition.COMPLETE_DELIVERY, orderId);
     }
 
     @Transactional
     public Order complete(final UUID orderId) {
-        final Order order = orderRepository.findById(orderId)
-            .orElseThrow(NoSuchElementException::new);
-        final OrderType type = order.getType();
-        final OrderStatus status = order.getStatus();
-        if (type == OrderType.DELIVERY) {
-            if (status != OrderStatus.DELIVERED) {
-                throw new IllegalStateException();
+        return changeOne(OrderTransition.COMPLETE, orderId);
+    }
+
+    @Transactional
+    public List<OrderTransitionResult> transition(final OrderTransition transition, final List<UUID> orderIds) {
+        if (Objects.isNull(transition) || Objects.isNull(orderIds) || orderIds.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        final Transitioned transitioned = change(transition, orderIds);
+        final Set<UUID> succeeded = new HashSet<>();
+        final List<OrderTransitionResult> results = new ArrayList<>();
+        for (final UUID orderId : orderIds) {
+            final Order order = transitioned.orders().get(orderId);
+            final RuntimeException failure = transitioned.failures().get(orderId);
+            if (Objects.isNull(failure) && succeeded.add(orderId)) {
+                results.add(OrderTransitionResult.succeeded(order));
+                continue;
             }
+            results.add(OrderTransitionResult.failed(
+                orderId,
+                Objects.isNull(order) ? transitioned.statuses().get(orderId) : order.getStatus(),
+                Objects.requireNonNullElseGet(failure, IllegalStateException::new)
+            ));
         }
-        if (type == OrderType.TAKEOUT || type == OrderType.EAT_IN) {
-            if (status != OrderStatus.SERVED) {
-                throw new IllegalStateException();
+        return results;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Order> findAll() {
+        return orderRepository.findAll();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Order> findAll(final UUID cursor, final int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException();
+        }
+        return orderRepository.findAllByIdGreaterThanOrderByIdAsc(
+            Objects.requireNonNullElse(cursor, FIRST_CURSOR),
+            Limit.of(size)
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public List<Order> findAll(final OrderSearchCondition condition, final UUID cursor, final int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException();
+        }
+        final LocalDateTime from = condition.from();
+        final LocalDateTime to = condition.to();
+        if (Objects.nonNull(from) && Objects.nonNull(to) && !from.isBefore(to)) {
+            throw new IllegalArgumentException();
+        }
+        return orderRepository.findAllByCondition(
+            condition.statuses().isEmpty() ? EnumSet.allOf(OrderStatus.class) : condition.statuses(),
+            condition.type(),
+            condition.orderTableId(),
+            from,
+            to,
+            cursor,
+            Limit.of(size)
+        );
+    }
+
+    private Order changeOne(final OrderTransition transition, final UUID orderId) {
+        final Transitioned transitioned = change(transition, List.of(orderId));
+        final RuntimeException failure = transitioned.failures().get(orderId);
+        if (Objects.nonNull(failure)) {
+            throw failure;
+        }
+        return transitioned.orders().get(orderId);
+    }
+
+    private Transitioned change(final OrderTransition transition, final List<UUID> orderIds) {
+        final List<UUID> distinctIds = orderIds.stream()
+            .distinct()
+            .toList();
+        final List<StatusChange> statusChanges = StatusChange.of(transition);
+        final List<UUID> changedIds = distinctIds.stream()
+            .filter(orderId -> compareAndSet(orderId, statusChanges))
+            .toList();
+        final Map<UUID, Order> orders = changedIds.isEmpty()
+            ? Map.of()
+            : orderRepository.findAllByIdIn(changedIds)
+            .stream()
+            .collect(Collectors.toMap(Order::getId, Function.identity()));
+        final Map<UUID, RuntimeException> failures = new HashMap<>();
+        if (transition == OrderTransition.ACCEPT) {
+            failures.putAll(requestDeliveries(orders.values()));
+        }
+        if (transition == OrderTransition.COMPLETE) {
+            releaseOrderTables(orders.values());
+        }
+        final List<UUID> unchangedIds = distinctIds.stream()
+            .filter(orderId -> !orders.containsKey(orderId))
+            .toList();
+        final Map<UUID, OrderStatus> statuses = new HashMap<>();
+        if (!unchangedIds.isEmpty()) {
+            orderRepository.findAllStatusViewsByIdIn(unchangedIds)
+                .forEach(view -> statuses.put(view.id(), view.status()));
+            for (final UUID orderId : unchangedIds) {
+                failures.put(orderId, statuses.containsKey(orderId) ? new IllegalStateException() : new NoSuchElementException());
             }
         }
-        order.setStatus(OrderStatus.COMPLETED);
-        if (type == OrderType.EAT_IN) {
-            final OrderTable orderTable = order.getOrderTable();
+        changedIds.stream()
+            .filter(orderId -> !failures.containsKey(orderId))
+            .map(orders::get)
+            .forEach(this::publishStatusChanged);
+        return new Transitioned(orders, statuses, failures);
+    }
+
+    private boolean compareAndSet(final UUID orderId, final List<StatusChange> statusChanges) {
+        for (final StatusChange statusChange : statusChanges) {
+            if (orderRepository.updateStatus(orderId, statusChange.types(), statusChange.expected(), statusChange.status()) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Map<UUID, RuntimeException> requestDeliveries(final Collection<Order> accepted) {
+        final Map<UUID, RuntimeException> failures = new HashMap<>();
+        for (final Order order : accepted) {
+            if (order.getType() != OrderType.DELIVERY) {
+                continue;
+            }
+            try {
+                kitchenridersClient.requestDelivery(order.getId(), deliveryPrice(order).toBigDecimal(), order.getDeliveryAddress());
+            } catch (final RuntimeException e) {
+                order.setStatus(OrderStatus.WAITING);
+                failures.put(order.getId(), e);
+            }
+        }
+        return failures;
+    }
+
+    private Money deliveryPrice(final Order order) {
+        Money sum = Money.ZERO;
+        for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+            sum = orderLineItem.getMenu()
+                .getPrice()
+                .times(orderLineItem.getQuantity());
+        }
+        return sum;
+    }
+
+    private void releaseOrderTables(final Collection<Order> completed) {
+        final Map<UUID, OrderTable> orderTables = new HashMap<>();
+        for (final Order order : completed) {
+            if (order.getType() == OrderType.EAT_IN) {
+                orderTables.putIfAbsent(order.getOrderTable().getId(), order.getOrderTable());
+            }
+        }
+        for (final OrderTable orderTable : orderTables.values()) {
             if (!orderRepository.existsByOrderTableAndStatusNot(orderTable, OrderStatus.COMPLETED)) {
                 orderTable.setNumberOfGuests(0);
                 orderTable.setOccupied(false);
             }
         }
-        return order;
     }
 
-    @Transactional(readOnly = true)
-    public List<Order> findAll() {
-        return orderRepository.findAll();
+    private void publishStatusChanged(final Order order) {
+        eventPublisher.publishEvent(
+            new OrderStatusChangedEvent(order.getId(), order.getType(), order.getStatus(), LocalDateTime.now())
+        );
+    }
+
+    private record StatusChange(Set<OrderType> types, OrderStatus expected, OrderStatus status) {
+        private static List<StatusChange> of(final OrderTransition transition) {
+            return switch (transition) {
+                case ACCEPT -> List.of(new StatusChange(ALL_TYPES, OrderStatus.WAITING, OrderStatus.ACCEPTED));
+                case SERVE -> List.of(new StatusChange(ALL_TYPES, OrderStatus.ACCEPTED, OrderStatus.SERVED));
+                case START_DELIVERY -> List.of(
+                    new StatusChange(EnumSet.of(OrderType.DELIVERY), OrderStatus.SERVED, OrderStatus.DELIVERING)
+                );
+                case COMPLETE_DELIVERY -> List.of(new StatusChange(ALL_TYPES, OrderStatus.DELIVERING, OrderStatus.DELIVERED));
+                case COMPLETE -> List.of(
+                    new StatusChange(EnumSet.of(OrderType.DELIVERY), OrderStatus.DELIVERED, OrderStatus.COMPLETED),
+                    new StatusChange(EnumSet.of(OrderType.TAKEOUT, OrderType.EAT_IN), OrderStatus.SERVED, OrderStatus.COMPLETED)
+                );
+            };
+        }
+    }
+
+    private record Transitioned(
+        Map<UUID, Order> orders,
+        Map<UUID, OrderStatus> statuses,
+        Map<UUID, RuntimeException> failures
+    ) {
     }
 }
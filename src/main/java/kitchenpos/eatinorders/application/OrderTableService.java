@@ -4,6 +4,7 @@ import kitchenpos.eatinorders.domain.OrderRepository;
 import kitchenpos.eatinorders.domain.OrderStatus;
 import kitchenpos.eatinorders.domain.OrderTable;
 import kitchenpos.eatinorders.domain.OrderTableRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +15,8 @@ import java.util.UUID;
 
 @Service
 public class OrderTableService {
+    private static final UUID FIRST_CURSOR = new UUID(0L, 0L);
+
     private final OrderTableRepository orderTableRepository;
     private final OrderRepository orderRepository;
 
@@ -75,4 +78,15 @@ public class OrderTableService {
     public List<OrderTable> findAll() {
         return orderTableRepository.findAll();
     }
+
+    @Transactional(readOnly = true)
+    public List<OrderTable> findAll(final UUID cursor, final int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException();
+        }
+        return orderTableRepository.findAllByIdGreaterThanOrderByIdAsc(
+            Objects.requireNonNullElse(cursor, FIRST_CURSOR),
+            Limit.of(size)
+        );
+    }
 }
@@ -0,0 +1,16 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderStatus;
+
+import java.util.UUID;
+
+public record OrderTransitionResult(UUID orderId, boolean succeeded, OrderStatus status, String error) {
+    public static OrderTransitionResult succeeded(final Order order) {
+        return new OrderTransitionResult(order.getId(), true, order.getStatus(), null);
+    }
+
+    public static OrderTransitionResult failed(final UUID orderId, final OrderStatus status, final RuntimeException e) {
+        return new OrderTransitionResult(orderId, false, status, e.getClass().getSimpleName());
+    }
+}
@@ -0,0 +1,16 @@
+package kitchenpos.eatinorders.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface JpaOrderIdempotencyKeyRepository
+    extends OrderIdempotencyKeyRepository, JpaRepository<OrderIdempotencyKey, String> {
+    @Modifying
+    @Query("delete from OrderIdempotencyKey k where k.createdAt < :createdAt")
+    @Override
+    int deleteAllByCreatedAtBefore(@Param("createdAt") LocalDateTime createdAt);
+}
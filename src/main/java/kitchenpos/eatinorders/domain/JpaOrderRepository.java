@@ -1,8 +1,73 @@
 package kitchenpos.eatinorders.domain;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface JpaOrderRepository extends OrderRepository, JpaRepository<Order, UUID> {
+    @EntityGraph("Order.detail")
+    @Override
+    Optional<Order> findById(UUID id);
+
+    @EntityGraph("Order.detail")
+    @Override
+    List<Order> findAll();
+
+    @EntityGraph(attributePaths = "orderTable")
+    @Override
+    List<Order> findAllByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
+    @EntityGraph("Order.detail")
+    @Override
+    List<Order> findAllByIdIn(List<UUID> ids);
+
+    @Query("select new kitchenpos.eatinorders.domain.OrderStatusView(o.id, o.status) from Order o where o.id in :ids")
+    @Override
+    List<OrderStatusView> findAllStatusViewsByIdIn(@Param("ids") List<UUID> ids);
+
+    @EntityGraph(attributePaths = "orderTable")
+    @Query(
+        "select o from Order o "
+            + "where o.status in :statuses "
+            + "and (:type is null or o.type = :type) "
+            + "and (:orderTableId is null or o.orderTable.id = :orderTableId) "
+            + "and (:from is null or o.orderDateTime >= :from) "
+            + "and (:to is null or o.orderDateTime < :to) "
+            + "and (:cursor is null "
+            + "or o.orderDateTime > (select c.orderDateTime from Order c where c.id = :cursor) "
+            + "or o.orderDateTime = (select c.orderDateTime from Order c where c.id = :cursor) and o.id > :cursor) "
+            + "order by o.orderDateTime asc, o.id asc"
+    )
+    @Override
+    List<Order> findAllByCondition(
+        @Param("statuses") Collection<OrderStatus> statuses,
+        @Param("type") OrderType type,
+        @Param("orderTableId") UUID orderTableId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
+        @Param("cursor") UUID cursor,
+        Limit limit
+    );
+
+    @Modifying(flushAutomatically = true)
+    @Query(
+        "update Order o set o.status = :status "
+            + "where o.id = :id and o.type in :types and o.status = :expected"
+    )
+    @Override
+    int updateStatus(
+        @Param("id") UUID id,
+        @Param("types") Collection<OrderType> types,
+        @Param("expected") OrderStatus expected,
+        @Param("status") OrderStatus status
+    );
 }
@@ -5,10 +5,14 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
@@ -17,6 +21,17 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+@NamedEntityGraph(
+    name = "Order.detail",
+    attributeNodes = {
+        @NamedAttributeNode("orderTable"),
+        @NamedAttributeNode(value = "orderLineItems", subgraph = "orderLineItems")
+    },
+    subgraphs = {
+        @NamedSubgraph(name = "orderLineItems", attributeNodes = @NamedAttributeNode(value = "menu", subgraph = "menu")),
+        @NamedSubgraph(name = "menu", attributeNodes = @NamedAttributeNode("menuGroup"))
+    }
+)
 @Table(name = "orders")
 @Entity
 public class Order {
@@ -47,7 +62,7 @@ public class Order {
     @Column(name = "delivery_address")
     private String deliveryAddress;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(
         name = "order_table_id",
         columnDefinition = "binary(16)",
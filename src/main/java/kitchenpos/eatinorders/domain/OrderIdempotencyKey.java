@@ -0,0 +1,77 @@
+package kitchenpos.eatinorders.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Table(name = "order_idempotency_key")
+@Entity
+public class OrderIdempotencyKey implements Persistable<String> {
+    @Column(name = "idempotency_key")
+    @Id
+    private String idempotencyKey;
+
+    @Column(name = "order_id", nullable = false, columnDefinition = "binary(16)")
+    private UUID orderId;
+
+    @Column(name = "request_hash", columnDefinition = "char(64)")
+    private String requestHash;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Transient
+    private boolean persisted;
+
+    public OrderIdempotencyKey() {
+    }
+
+    public OrderIdempotencyKey(
+        final String idempotencyKey,
+        final UUID orderId,
+        final String requestHash,
+        final LocalDateTime createdAt
+    ) {
+        this.idempotencyKey = idempotencyKey;
+        this.orderId = orderId;
+        this.requestHash = requestHash;
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public boolean matches(final String requestHash) {
+        return Objects.isNull(this.requestHash) || this.requestHash.equals(requestHash);
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,12 @@
+package kitchenpos.eatinorders.domain;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface OrderIdempotencyKeyRepository {
+    OrderIdempotencyKey save(OrderIdempotencyKey orderIdempotencyKey);
+
+    Optional<OrderIdempotencyKey> findById(String idempotencyKey);
+
+    int deleteAllByCreatedAtBefore(LocalDateTime createdAt);
+}
@@ -2,6 +2,7 @@ package kitchenpos.eatinorders.domain;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -10,9 +11,9 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
+import kitchenpos.common.domain.Money;
 import kitchenpos.menus.domain.Menu;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 
 @Table(name = "order_line_item")
@@ -23,7 +24,7 @@ public class OrderLineItem {
     @Id
     private Long seq;
 
-    @ManyToOne(optional = false)
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(
         name = "menu_id",
         columnDefinition = "binary(16)",
@@ -38,7 +39,7 @@ public class OrderLineItem {
     private UUID menuId;
 
     @Transient
-    private BigDecimal price;
+    private Money price;
 
     public OrderLineItem() {
     }
@@ -75,11 +76,11 @@ public class OrderLineItem {
         this.menuId = menuId;
     }
 
-    public BigDecimal getPrice() {
+    public Money getPrice() {
         return price;
     }
 
-    public void setPrice(final BigDecimal price) {
+    public void setPrice(final Money price) {
         this.price = price;
     }
 }
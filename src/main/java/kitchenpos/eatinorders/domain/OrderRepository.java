@@ -1,5 +1,9 @@
 package kitchenpos.eatinorders.domain;
 
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,6 +15,24 @@ public interface OrderRepository {
 
     List<Order> findAll();
 
+    List<Order> findAllByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
+    List<Order> findAllByIdIn(List<UUID> ids);
+
+    List<OrderStatusView> findAllStatusViewsByIdIn(List<UUID> ids);
+
+    List<Order> findAllByCondition(
+        Collection<OrderStatus> statuses,
+        OrderType type,
+        UUID orderTableId,
+        LocalDateTime from,
+        LocalDateTime to,
+        UUID cursor,
+        Limit limit
+    );
+
     boolean existsByOrderTableAndStatusNot(OrderTable orderTable, OrderStatus status);
+
+    int updateStatus(UUID id, Collection<OrderType> types, OrderStatus expected, OrderStatus status);
 }
 
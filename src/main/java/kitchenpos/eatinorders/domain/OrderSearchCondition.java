@@ -0,0 +1,35 @@
+package kitchenpos.eatinorders.domain;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+public record OrderSearchCondition(
+    Set<OrderStatus> statuses,
+    OrderType type,
+    UUID orderTableId,
+    LocalDateTime from,
+    LocalDateTime to
+) {
+    public OrderSearchCondition {
+        statuses = Objects.isNull(statuses) ? Set.of() : Set.copyOf(statuses);
+    }
+
+    public boolean isEmpty() {
+        return statuses.isEmpty()
+            && Objects.isNull(type)
+            && Objects.isNull(orderTableId)
+            && Objects.isNull(from)
+            && Objects.isNull(to);
+    }
+
+    public boolean matches(final Order order) {
+        return (statuses.isEmpty() || statuses.contains(order.getStatus()))
+            && (Objects.isNull(type) || order.getType() == type)
+            && (Objects.isNull(orderTableId)
+            || Objects.nonNull(order.getOrderTable()) && orderTableId.equals(order.getOrderTable().getId()))
+            && (Objects.isNull(from) || !order.getOrderDateTime().isBefore(from))
+            && (Objects.isNull(to) || order.getOrderDateTime().isBefore(to));
+    }
+}
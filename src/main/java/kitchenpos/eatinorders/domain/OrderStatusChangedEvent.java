@@ -0,0 +1,7 @@
+package kitchenpos.eatinorders.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record OrderStatusChangedEvent(UUID orderId, OrderType type, OrderStatus status, LocalDateTime changedAt) {
+}
@@ -0,0 +1,6 @@
+package kitchenpos.eatinorders.domain;
+
+import java.util.UUID;
+
+public record OrderStatusView(UUID id, OrderStatus status) {
+}
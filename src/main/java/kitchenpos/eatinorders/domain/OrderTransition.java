@@ -0,0 +1,5 @@
+package kitchenpos.eatinorders.domain;
+
+public enum OrderTransition {
+    ACCEPT, SERVE, START_DELIVERY, COMPLETE_DELIVERY, COMPLETE
+}
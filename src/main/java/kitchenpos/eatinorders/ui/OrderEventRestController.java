@@ -0,0 +1,96 @@
+package kitchenpos.eatinorders.ui;
+
+import kitchenpos.eatinorders.application.OrderEvent;
+import kitchenpos.eatinorders.application.OrderEventStream;
+import kitchenpos.eatinorders.domain.OrderStatus;
+import kitchenpos.eatinorders.domain.OrderType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@RequestMapping("/api/orders/events")
+@RestController
+public class OrderEventRestController {
+    private final OrderEventStream orderEventStream;
+    private final Duration timeout;
+    private final Set<SseEmitter> emitters = ConcurrentHashMap.newKeySet();
+
+    public OrderEventRestController(
+        final OrderEventStream orderEventStream,
+        @Value("${kitchenpos.order.event-stream.timeout:30m}") final Duration timeout
+    ) {
+        this.orderEventStream = orderEventStream;
+        this.timeout = timeout;
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+        @RequestHeader(name = "Last-Event-ID", required = false) final String lastEventIdHeader,
+        @RequestParam(required = false) final String lastEventId,
+        @RequestParam(required = false) final OrderType type,
+        @RequestParam(required = false) final OrderStatus status
+    ) {
+        final SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        final OrderEventStream.Subscription subscription = orderEventStream.subscribe(
+            Objects.requireNonNullElse(lastEventIdHeader, lastEventId),
+            type,
+            status,
+            event -> send(emitter, event),
+            emitter::complete
+        );
+        emitters.add(emitter);
+        emitter.onCompletion(() -> {
+            emitters.remove(emitter);
+            subscription.cancel();
+        });
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> emitter.complete());
+        if (!subscription.isResumed()) {
+            try {
+                emitter.send(SseEmitter.event().name("reset").data(""));
+            } catch (final IOException e) {
+                emitter.completeWithError(e);
+            }
+        }
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.order.event-stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (final SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (final IOException e) {
+                emitters.remove(emitter);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private void send(final SseEmitter emitter, final OrderEvent event) {
+        try {
+            emitter.send(
+                SseEmitter.event()
+                    .id(event.id())
+                    .name("order")
+                    .data(event, MediaType.APPLICATION_JSON)
+            );
+        } catch (final IOException e) {
+            emitter.completeWithError(e);
+            throw new UncheckedIOException(e);
+        }
+    }
+}
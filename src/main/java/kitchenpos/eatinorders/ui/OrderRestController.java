@@ -1,32 +1,48 @@
 package kitchenpos.eatinorders.ui;
 
+import kitchenpos.common.ui.CursorPage;
+import kitchenpos.eatinorders.application.IdempotentOrderService;
 import kitchenpos.eatinorders.application.OrderService;
+import kitchenpos.eatinorders.application.OrderTransitionResult;
 import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderSearchCondition;
+import kitchenpos.eatinorders.domain.OrderStatus;
+import kitchenpos.eatinorders.domain.OrderType;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @RequestMapping("/api/orders")
 @RestController
 public class OrderRestController {
     private final OrderService orderService;
+    private final IdempotentOrderService idempotentOrderService;
 
-    public OrderRestController(final OrderService orderService) {
+    public OrderRestController(final OrderService orderService, final IdempotentOrderService idempotentOrderService) {
         this.orderService = orderService;
+        this.idempotentOrderService = idempotentOrderService;
     }
 
     @PostMapping
-    public ResponseEntity<Order> create(@RequestBody final Order request) {
-        final Order response = orderService.create(request);
+    public ResponseEntity<Order> create(
+        @RequestHeader(name = "Idempotency-Key", required = false) final String idempotencyKey,
+        @RequestBody final Order request
+    ) {
+        final Order response = idempotentOrderService.create(idempotencyKey, request);
         return ResponseEntity.created(URI.create("/api/orders/" + response.getId()))
             .body(response);
     }
@@ -56,8 +72,26 @@ public class OrderRestController {
         return ResponseEntity.ok(orderService.complete(orderId));
     }
 
+    @PutMapping("/transitions")
+    public ResponseEntity<List<OrderTransitionResult>> transition(@RequestBody final OrderTransitionRequest request) {
+        return ResponseEntity.ok(orderService.transition(request.transition(), request.orderIds()));
+    }
+
     @GetMapping
-    public ResponseEntity<List<Order>> findAll() {
-        return ResponseEntity.ok(orderService.findAll());
+    public ResponseEntity<List<Order>> findAll(
+        @RequestParam(required = false) final UUID cursor,
+        @RequestParam(required = false) final Integer size,
+        @RequestParam(required = false) final Set<OrderStatus> status,
+        @RequestParam(required = false) final OrderType type,
+        @RequestParam(required = false) final UUID orderTableId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to
+    ) {
+        final OrderSearchCondition condition = new OrderSearchCondition(status, type, orderTableId, from, to);
+        final int pageSize = CursorPage.size(size);
+        if (!condition.isEmpty()) {
+            return CursorPage.of(orderService.findAll(condition, cursor, pageSize), pageSize, Order::getId);
+        }
+        return CursorPage.of(orderService.findAll(cursor, pageSize), pageSize, Order::getId);
     }
 }
@@ -1,5 +1,6 @@
 package kitchenpos.eatinorders.ui;
 
+import kitchenpos.common.ui.CursorPage;
 import kitchenpos.eatinorders.application.OrderTableService;
 import kitchenpos.eatinorders.domain.OrderTable;
 import org.springframework.http.ResponseEntity;
@@ -9,6 +10,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
@@ -50,7 +52,11 @@ public class OrderTableRestController {
     }
 
     @GetMapping
-    public ResponseEntity<List<OrderTable>> findAll() {
-        return ResponseEntity.ok(orderTableService.findAll());
+    public ResponseEntity<List<OrderTable>> findAll(
+        @RequestParam(required = false) final UUID cursor,
+        @RequestParam(required = false) final Integer size
+    ) {
+        final int pageSize = CursorPage.size(size);
+        return CursorPage.of(orderTableService.findAll(cursor, pageSize), pageSize, OrderTable::getId);
     }
 }
@@ -0,0 +1,9 @@
+package kitchenpos.eatinorders.ui;
+
+import kitchenpos.eatinorders.domain.OrderTransition;
+
+import java.util.List;
+import java.util.UUID;
+
+public record OrderTransitionRequest(OrderTransition transition, List<UUID> orderIds) {
+}
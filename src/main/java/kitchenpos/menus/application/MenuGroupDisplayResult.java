@@ -0,0 +1,6 @@
+package kitchenpos.menus.application;
+
+import java.util.UUID;
+
+public record MenuGroupDisplayResult(UUID menuGroupId, boolean displayed, int changedMenuCount) {
+}
@@ -1,7 +1,11 @@
 package kitchenpos.menus.application;
 
+import kitchenpos.menus.domain.MenuCatalogChangedEvent;
 import kitchenpos.menus.domain.MenuGroup;
 import kitchenpos.menus.domain.MenuGroupRepository;
+import kitchenpos.menus.domain.MenuGroupSummary;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,10 +15,14 @@ import java.util.UUID;
 
 @Service
 public class MenuGroupService {
+    private static final UUID FIRST_CURSOR = new UUID(0L, 0L);
+
     private final MenuGroupRepository menuGroupRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public MenuGroupService(final MenuGroupRepository menuGroupRepository) {
+    public MenuGroupService(final MenuGroupRepository menuGroupRepository, final ApplicationEventPublisher eventPublisher) {
         this.menuGroupRepository = menuGroupRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -26,11 +34,29 @@ public class MenuGroupService {
         final MenuGroup menuGroup = new MenuGroup();
         menuGroup.setId(UUID.randomUUID());
         menuGroup.setName(name);
-        return menuGroupRepository.save(menuGroup);
+        final MenuGroup saved = menuGroupRepository.save(menuGroup);
+        eventPublisher.publishEvent(MenuCatalogChangedEvent.ofMenuGroups());
+        return saved;
     }
 
     @Transactional(readOnly = true)
     public List<MenuGroup> findAll() {
         return menuGroupRepository.findAll();
     }
+
+    @Transactional(readOnly = true)
+    public List<MenuGroupSummary> findAllSummaries() {
+        return menuGroupRepository.findAllSummaries();
+    }
+
+    @Transactional(readOnly = true)
+    public List<MenuGroup> findAll(final UUID cursor, final int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException();
+        }
+        return menuGroupRepository.findAllByIdGreaterThanOrderByIdAsc(
+            Objects.requireNonNullElse(cursor, FIRST_CURSOR),
+            Limit.of(size)
+        );
+    }
 }
@@ -1,117 +1,103 @@
 package kitchenpos.menus.application;
 
+import kitchenpos.common.domain.Money;
 import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuCatalogChangedEvent;
+import kitchenpos.menus.domain.MenuCreatedEvent;
 import kitchenpos.menus.domain.MenuGroup;
 import kitchenpos.menus.domain.MenuGroupRepository;
 import kitchenpos.menus.domain.MenuProduct;
 import kitchenpos.menus.domain.MenuRepository;
 import kitchenpos.products.domain.Product;
+import kitchenpos.products.domain.ProductPriceChangeRepository;
 import kitchenpos.products.domain.ProductRepository;
 import kitchenpos.products.infra.PurgomalumClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class MenuService {
+    private static final UUID FIRST_CURSOR = new UUID(0L, 0L);
+
     private final MenuRepository menuRepository;
     private final MenuGroupRepository menuGroupRepository;
     private final ProductRepository productRepository;
+    private final ProductPriceChangeRepository productPriceChangeRepository;
     private final PurgomalumClient purgomalumClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean concurrentNameCheck;
 
     public MenuService(
         final MenuRepository menuRepository,
         final MenuGroupRepository menuGroupRepository,
         final ProductRepository productRepository,
-        final PurgomalumClient purgomalumClient
+        final ProductPriceChangeRepository productPriceChangeRepository,
+        final PurgomalumClient purgomalumClient,
+        final ApplicationEventPublisher eventPublisher,
+        @Value("${kitchenpos.menu.concurrent-name-check:false}") final boolean concurrentNameCheck
     ) {
         this.menuRepository = menuRepository;
         this.menuGroupRepository = menuGroupRepository;
         this.productRepository = productRepository;
+        this.productPriceChangeRepository = productPriceChangeRepository;
         this.purgomalumClient = purgomalumClient;
+        this.eventPublisher = eventPublisher;
+        this.concurrentNameCheck = concurrentNameCheck;
     }
 
     @Transactional
     public Menu create(final Menu request) {
-        final BigDecimal price = request.getPrice();
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException();
-        }
-        final MenuGroup menuGroup = menuGroupRepository.findById(request.getMenuGroupId())
-            .orElseThrow(NoSuchElementException::new);
-        final List<MenuProduct> menuProductRequests = request.getMenuProducts();
-        if (Objects.isNull(menuProductRequests) || menuProductRequests.isEmpty()) {
+        final String name = request.getName();
+        if (Objects.isNull(name)) {
             throw new IllegalArgumentException();
         }
-        final List<Product> products = productRepository.findAllByIdIn(
-            menuProductRequests.stream()
-                .map(MenuProduct::getProductId)
-                .toList()
-        );
-        if (products.size() != menuProductRequests.size()) {
-            throw new IllegalArgumentException();
+        final FutureTask<Boolean> nameCheck = new FutureTask<>(() -> purgomalumClient.containsProfanity(name));
+        if (concurrentNameCheck) {
+            Thread.startVirtualThread(nameCheck);
         }
-        final List<MenuProduct> menuProducts = new ArrayList<>();
-        BigDecimal sum = BigDecimal.ZERO;
-        for (final MenuProduct menuProductRequest : menuProductRequests) {
-            final long quantity = menuProductRequest.getQuantity();
-            if (quantity < 0) {
+        try {
+            final Menu menu = createMenu(request, nameCheck);
+            if (containsProfanity(nameCheck)) {
                 throw new IllegalArgumentException();
             }
-            final Product product = productRepository.findById(menuProductRequest.getProductId())
-                .orElseThrow(NoSuchElementException::new);
-            sum = sum.add(
-                product.getPrice()
-                    .multiply(BigDecimal.valueOf(quantity))
-            );
-            final MenuProduct menuProduct = new MenuProduct();
-            menuProduct.setProduct(product);
-            menuProduct.setQuantity(quantity);
-            menuProducts.add(menuProduct);
-        }
-        if (price.compareTo(sum) > 0) {
-            throw new IllegalArgumentException();
-        }
-        final String name = request.getName();
-        if (Objects.isNull(name) || purgomalumClient.containsProfanity(name)) {
-            throw new IllegalArgumentException();
+            final Menu saved = menuRepository.save(menu);
+            eventPublisher.publishEvent(new MenuCreatedEvent(saved.getId(), saved.getName()));
+            eventPublisher.publishEvent(new MenuCatalogChangedEvent());
+            return saved;
+        } finally {
+            nameCheck.cancel(true);
         }
-        final Menu menu = new Menu();
-        menu.setId(UUID.randomUUID());
-        menu.setName(name);
-        menu.setPrice(price);
-        menu.setMenuGroup(menuGroup);
-        menu.setDisplayed(request.isDisplayed());
-        menu.setMenuProducts(menuProducts);
-        return menuRepository.save(menu);
     }
 
     @Transactional
     public Menu changePrice(final UUID menuId, final Menu request) {
-        final BigDecimal price = request.getPrice();
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+        final Money price = request.getPrice();
+        if (Objects.isNull(price) || price.isNegative()) {
             throw new IllegalArgumentException();
         }
         final Menu menu = menuRepository.findById(menuId)
             .orElseThrow(NoSuchElementException::new);
-        BigDecimal sum = BigDecimal.ZERO;
-        for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-            sum = sum.add(
-                menuProduct.getProduct()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(menuProduct.getQuantity()))
-            );
-        }
-        if (price.compareTo(sum) > 0) {
+        checkProductPriceSumFresh(productIds(menu));
+        if (price.isGreaterThan(menu.getProductPriceSum())) {
             throw new IllegalArgumentException();
         }
         menu.setPrice(price);
+        eventPublisher.publishEvent(new MenuCatalogChangedEvent());
         return menu;
     }
 
@@ -119,18 +105,12 @@ public class MenuService {
     public Menu display(final UUID menuId) {
         final Menu menu = menuRepository.findById(menuId)
             .orElseThrow(NoSuchElementException::new);
-        BigDecimal sum = BigDecimal.ZERO;
-        for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-            sum = sum.add(
-                menuProduct.getProduct()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(menuProduct.getQuantity()))
-            );
-        }
-        if (menu.getPrice().compareTo(sum) > 0) {
+        checkProductPriceSumFresh(productIds(menu));
+        if (menu.isPricedOverProductPriceSum()) {
             throw new IllegalStateException();
         }
         menu.setDisplayed(true);
+        eventPublisher.publishEvent(new MenuCatalogChangedEvent());
         return menu;
     }
 
@@ -139,11 +119,135 @@ public class MenuService {
         final Menu menu = menuRepository.findById(menuId)
             .orElseThrow(NoSuchElementException::new);
         menu.setDisplayed(false);
+        eventPublisher.publishEvent(new MenuCatalogChangedEvent());
         return menu;
     }
 
+    @Transactional
+    public MenuGroupDisplayResult displayAll(final UUID menuGroupId) {
+        final MenuGroup menuGroup = menuGroupRepository.findById(menuGroupId)
+            .orElseThrow(NoSuchElementException::new);
+        checkProductPriceSumFresh(menuRepository.findAllProductIdsByMenuGroupId(menuGroup.getId()));
+        if (menuRepository.countPricedOverProductPriceSumByMenuGroupId(menuGroup.getId()) > 0) {
+            throw new IllegalStateException();
+        }
+        final int changedMenuCount = menuRepository.updateDisplayedByMenuGroupId(menuGroup.getId(), true);
+        eventPublisher.publishEvent(new MenuCatalogChangedEvent());
+        return new MenuGroupDisplayResult(menuGroup.getId(), true, changedMenuCount);
+    }
+
+    @Transactional
+    public MenuGroupDisplayResult hideAll(final UUID menuGroupId) {
+        final MenuGroup menuGroup = menuGroupRepository.findById(menuGroupId)
+            .orElseThrow(NoSuchElementException::new);
+        final int changedMenuCount = menuRepository.updateDisplayedByMenuGroupId(menuGroup.getId(), false);
+        eventPublisher.publishEvent(new MenuCatalogChangedEvent());
+        return new MenuGroupDisplayResult(menuGroup.getId(), false, changedMenuCount);
+    }
+
     @Transactional(readOnly = true)
     public List<Menu> findAll() {
         return menuRepository.findAll();
     }
+
+    @Transactional(readOnly = true)
+    public List<Menu> findAll(final UUID cursor, final int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException();
+        }
+        return menuRepository.findAllByIdGreaterThanOrderByIdAsc(
+            Objects.requireNonNullElse(cursor, FIRST_CURSOR),
+            Limit.of(size)
+        );
+    }
+
+    private Menu createMenu(final Menu request, final FutureTask<Boolean> nameCheck) {
+        final Money price = request.getPrice();
+        if (Objects.isNull(price) || price.isNegative()) {
+            throw new IllegalArgumentException();
+        }
+        final MenuGroup menuGroup = menuGroupRepository.findById(request.getMenuGroupId())
+            .orElseThrow(NoSuchElementException::new);
+        failFast(nameCheck);
+        final List<MenuProduct> menuProductRequests = request.getMenuProducts();
+        if (Objects.isNull(menuProductRequests) || menuProductRequests.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        final Map<UUID, Product> products = productRepository.findAllByIdIn(
+                menuProductRequests.stream()
+                    .map(MenuProduct::getProductId)
+                    .toList()
+            )
+            .stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
+        if (products.size() != menuProductRequests.size()) {
+            throw new IllegalArgumentException();
+        }
+        failFast(nameCheck);
+        final List<MenuProduct> menuProducts = new ArrayList<>();
+        Money sum = Money.ZERO;
+        for (final MenuProduct menuProductRequest : menuProductRequests) {
+            final long quantity = menuProductRequest.getQuantity();
+            if (quantity < 0) {
+                throw new IllegalArgumentException();
+            }
+            final Product product = products.get(menuProductRequest.getProductId());
+            if (Objects.isNull(product)) {
+                throw new NoSuchElementException();
+            }
+            sum = sum.plus(product.getPrice().times(quantity));
+            final MenuProduct menuProduct = new MenuProduct();
+            menuProduct.setProduct(product);
+            menuProduct.setQuantity(quantity);
+            menuProducts.add(menuProduct);
+        }
+        if (price.isGreaterThan(sum)) {
+            throw new IllegalArgumentException();
+        }
+        final Menu menu = new Menu();
+        menu.setId(UUID.randomUUID());
+        menu.setName(request.getName());
+        menu.setPrice(price);
+        menu.setProductPriceSum(sum);
+        menu.setMenuGroup(menuGroup);
+        menu.setDisplayed(request.isDisplayed());
+        menu.setMenuProducts(menuProducts);
+        return menu;
+    }
+
+    private List<UUID> productIds(final Menu menu) {
+        return menu.getMenuProducts()
+            .stream()
+            .map(menuProduct -> menuProduct.getProduct().getId())
+            .toList();
+    }
+
+    private void checkProductPriceSumFresh(final List<UUID> productIds) {
+        if (!productIds.isEmpty() && productPriceChangeRepository.existsByProductIdIn(productIds)) {
+            throw new IllegalStateException();
+        }
+    }
+
+    private void failFast(final FutureTask<Boolean> nameCheck) {
+        if (nameCheck.isDone() && containsProfanity(nameCheck)) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    private boolean containsProfanity(final FutureTask<Boolean> nameCheck) {
+        nameCheck.run();
+        try {
+            return nameCheck.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (final CancellationException e) {
+            throw new IllegalStateException(e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
 }
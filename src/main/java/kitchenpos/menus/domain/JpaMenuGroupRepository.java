@@ -1,8 +1,22 @@
 package kitchenpos.menus.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface JpaMenuGroupRepository extends MenuGroupRepository, JpaRepository<MenuGroup, UUID> {
+    @Query(
+        "select new kitchenpos.menus.domain.MenuGroupSummary("
+            + "g.id, g.name, count(m.id), "
+            + "coalesce(sum(case when m.displayed = true then 1L else 0L end), 0L), "
+            + "min(m.price), max(m.price)"
+            + ") "
+            + "from MenuGroup g left join Menu m on m.menuGroup = g "
+            + "group by g.id, g.name "
+            + "order by g.name"
+    )
+    @Override
+    List<MenuGroupSummary> findAllSummaries();
 }
@@ -1,14 +1,78 @@
 package kitchenpos.menus.domain;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface JpaMenuRepository extends MenuRepository, JpaRepository<Menu, UUID> {
-    @Query("select m from Menu m join m.menuProducts mp where mp.product.id = :productId")
+    @EntityGraph("Menu.detail")
     @Override
-    List<Menu> findAllByProductId(@Param("productId") UUID productId);
+    Optional<Menu> findById(UUID id);
+
+    @EntityGraph("Menu.detail")
+    @Override
+    List<Menu> findAll();
+
+    @EntityGraph(attributePaths = "menuGroup")
+    @Override
+    List<Menu> findAllByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
+    @EntityGraph("Menu.detail")
+    @Override
+    List<Menu> findAllByDisplayedTrue();
+
+    @Query("select new kitchenpos.menus.domain.MenuPriceView(m.id, m.price, m.displayed) from Menu m where m.id in :ids")
+    @Override
+    List<MenuPriceView> findAllPriceViewsByIdIn(@Param("ids") List<UUID> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "menu"))
+    @Query(
+        value = "update menu "
+            + "set product_price_sum = ("
+            + "select coalesce(sum(p.price * mp.quantity), 0) from menu_product mp "
+            + "join product p on p.id = mp.product_id "
+            + "where mp.menu_id = menu.id"
+            + ") "
+            + "where id in (select mp.menu_id from menu_product mp where mp.product_id in (:productIds))",
+        nativeQuery = true
+    )
+    @Override
+    int recalculateProductPriceSum(@Param("productIds") List<UUID> productIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "menu"))
+    @Query(
+        value = "update menu "
+            + "set displayed = false "
+            + "where displayed = true "
+            + "and price > product_price_sum "
+            + "and id in (select mp.menu_id from menu_product mp where mp.product_id in (:productIds))",
+        nativeQuery = true
+    )
+    @Override
+    int hideAllPricedOverProductPriceSum(@Param("productIds") List<UUID> productIds);
+
+    @Query("select count(m) from Menu m where m.menuGroup.id = :menuGroupId and m.price > m.productPriceSum")
+    @Override
+    long countPricedOverProductPriceSumByMenuGroupId(@Param("menuGroupId") UUID menuGroupId);
+
+    @Query("select distinct mp.product.id from Menu m join m.menuProducts mp where m.menuGroup.id = :menuGroupId")
+    @Override
+    List<UUID> findAllProductIdsByMenuGroupId(@Param("menuGroupId") UUID menuGroupId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Menu m set m.displayed = :displayed where m.menuGroup.id = :menuGroupId and m.displayed <> :displayed")
+    @Override
+    int updateDisplayedByMenuGroupId(@Param("menuGroupId") UUID menuGroupId, @Param("displayed") boolean displayed);
 }
@@ -1,20 +1,38 @@
 package kitchenpos.menus.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
+import kitchenpos.common.domain.Money;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
+@JsonIgnoreProperties("hibernateLazyInitializer")
+@NamedEntityGraph(
+    name = "Menu.detail",
+    attributeNodes = {
+        @NamedAttributeNode("menuGroup"),
+        @NamedAttributeNode(value = "menuProducts", subgraph = "menuProducts")
+    },
+    subgraphs = @NamedSubgraph(name = "menuProducts", attributeNodes = @NamedAttributeNode("product"))
+)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "menu")
 @Entity
 public class Menu {
@@ -26,9 +44,12 @@ public class Menu {
     private String name;
 
     @Column(name = "price", nullable = false)
-    private BigDecimal price;
+    private Money price;
 
-    @ManyToOne(optional = false)
+    @Column(name = "product_price_sum", nullable = false)
+    private Money productPriceSum;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(
         name = "menu_group_id",
         columnDefinition = "binary(16)",
@@ -40,6 +61,7 @@ public class Menu {
     private boolean displayed;
 
     @OneToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinColumn(
         name = "menu_id",
         nullable = false,
@@ -49,19 +71,16 @@ public class Menu {
     private List<MenuProduct> menuProducts;
 
     public void validateMenuProduct() {
-        BigDecimal sum = BigDecimal.ZERO;
-        for (final MenuProduct menuProduct : menuProducts) {
-            sum = sum.add(
-                    menuProduct.getProduct()
-                            .getPrice()
-                            .multiply(BigDecimal.valueOf(menuProduct.getQuantity()))
-            );
-        }
-        if (price.compareTo(sum) > 0) {
+        if (isPricedOverProductPriceSum()) {
             setDisplayed(false);
         }
     }
 
+    @JsonIgnore
+    public boolean isPricedOverProductPriceSum() {
+        return price.isGreaterThan(productPriceSum);
+    }
+
     @Transient
     private UUID menuGroupId;
 
@@ -84,14 +103,23 @@ public class Menu {
         this.name = name;
     }
 
-    public BigDecimal getPrice() {
+    public Money getPrice() {
         return price;
     }
 
-    public void setPrice(final BigDecimal price) {
+    public void setPrice(final Money price) {
         this.price = price;
     }
 
+    @JsonIgnore
+    public Money getProductPriceSum() {
+        return productPriceSum;
+    }
+
+    public void setProductPriceSum(final Money productPriceSum) {
+        this.productPriceSum = productPriceSum;
+    }
+
     public MenuGroup getMenuGroup() {
         return menuGroup;
     }
@@ -0,0 +1,22 @@
+package kitchenpos.menus.domain;
+
+import java.util.List;
+import java.util.UUID;
+
+public record MenuCatalogChangedEvent(boolean menuGroupsChanged, List<UUID> productIds) {
+    public MenuCatalogChangedEvent() {
+        this(false, List.of());
+    }
+
+    public MenuCatalogChangedEvent {
+        productIds = List.copyOf(productIds);
+    }
+
+    public static MenuCatalogChangedEvent ofMenuGroups() {
+        return new MenuCatalogChangedEvent(true, List.of());
+    }
+
+    public static MenuCatalogChangedEvent ofProducts(final List<UUID> productIds) {
+        return new MenuCatalogChangedEvent(false, productIds);
+    }
+}
@@ -0,0 +1,6 @@
+package kitchenpos.menus.domain;
+
+import java.util.UUID;
+
+public record MenuCreatedEvent(UUID menuId, String name) {
+}
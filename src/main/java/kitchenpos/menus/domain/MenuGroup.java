@@ -1,12 +1,17 @@
 package kitchenpos.menus.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.UUID;
 
+@JsonIgnoreProperties("hibernateLazyInitializer")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "menu_group")
 @Entity
 public class MenuGroup {
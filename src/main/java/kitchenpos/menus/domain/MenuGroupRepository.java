@@ -1,5 +1,7 @@
 package kitchenpos.menus.domain;
 
+import org.springframework.data.domain.Limit;
+
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -10,5 +12,9 @@ public interface MenuGroupRepository {
     Optional<MenuGroup> findById(UUID id);
 
     List<MenuGroup> findAll();
+
+    List<MenuGroup> findAllByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
+    List<MenuGroupSummary> findAllSummaries();
 }
 
@@ -0,0 +1,15 @@
+package kitchenpos.menus.domain;
+
+import kitchenpos.common.domain.Money;
+
+import java.util.UUID;
+
+public record MenuGroupSummary(
+    UUID id,
+    String name,
+    long menuCount,
+    long displayedMenuCount,
+    Money minPrice,
+    Money maxPrice
+) {
+}
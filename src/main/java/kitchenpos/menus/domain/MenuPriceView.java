@@ -0,0 +1,8 @@
+package kitchenpos.menus.domain;
+
+import kitchenpos.common.domain.Money;
+
+import java.util.UUID;
+
+public record MenuPriceView(UUID id, Money price, boolean displayed) {
+}
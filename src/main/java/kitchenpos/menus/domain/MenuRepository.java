@@ -1,5 +1,7 @@
 package kitchenpos.menus.domain;
 
+import org.springframework.data.domain.Limit;
+
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,8 +13,24 @@ public interface MenuRepository {
 
     List<Menu> findAll();
 
+    List<Menu> findAllByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
     List<Menu> findAllByIdIn(List<UUID> ids);
 
-    List<Menu> findAllByProductId(UUID productId);
+    List<MenuPriceView> findAllPriceViewsByIdIn(List<UUID> ids);
+
+    Menu getReferenceById(UUID id);
+
+    List<Menu> findAllByDisplayedTrue();
+
+    int recalculateProductPriceSum(List<UUID> productIds);
+
+    int hideAllPricedOverProductPriceSum(List<UUID> productIds);
+
+    long countPricedOverProductPriceSumByMenuGroupId(UUID menuGroupId);
+
+    List<UUID> findAllProductIdsByMenuGroupId(UUID menuGroupId);
+
+    int updateDisplayedByMenuGroupId(UUID menuGroupId, boolean displayed);
 }
 
@@ -1,24 +1,34 @@
 package kitchenpos.menus.ui;
 
+import kitchenpos.common.ui.CursorPage;
+import kitchenpos.menus.application.MenuGroupDisplayResult;
 import kitchenpos.menus.application.MenuGroupService;
+import kitchenpos.menus.application.MenuService;
 import kitchenpos.menus.domain.MenuGroup;
+import kitchenpos.menus.domain.MenuGroupSummary;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
 import java.util.List;
+import java.util.UUID;
 
 @RequestMapping("/api/menu-groups")
 @RestController
 public class MenuGroupRestController {
     private final MenuGroupService menuGroupService;
+    private final MenuService menuService;
 
-    public MenuGroupRestController(final MenuGroupService menuGroupService) {
+    public MenuGroupRestController(final MenuGroupService menuGroupService, final MenuService menuService) {
         this.menuGroupService = menuGroupService;
+        this.menuService = menuService;
     }
 
     @PostMapping
@@ -28,8 +38,27 @@ public class MenuGroupRestController {
             .body(response);
     }
 
+    @GetMapping("/summaries")
+    public ResponseEntity<List<MenuGroupSummary>> findAllSummaries() {
+        return ResponseEntity.ok(menuGroupService.findAllSummaries());
+    }
+
+    @PutMapping("/{menuGroupId}/menus/display")
+    public ResponseEntity<MenuGroupDisplayResult> displayAll(@PathVariable final UUID menuGroupId) {
+        return ResponseEntity.ok(menuService.displayAll(menuGroupId));
+    }
+
+    @PutMapping("/{menuGroupId}/menus/hide")
+    public ResponseEntity<MenuGroupDisplayResult> hideAll(@PathVariable final UUID menuGroupId) {
+        return ResponseEntity.ok(menuService.hideAll(menuGroupId));
+    }
+
     @GetMapping
-    public ResponseEntity<List<MenuGroup>> findAll() {
-        return ResponseEntity.ok(menuGroupService.findAll());
+    public ResponseEntity<List<MenuGroup>> findAll(
+        @RequestParam(required = false) final UUID cursor,
+        @RequestParam(required = false) final Integer size
+    ) {
+        final int pageSize = CursorPage.size(size);
+        return CursorPage.of(menuGroupService.findAll(cursor, pageSize), pageSize, MenuGroup::getId);
     }
 }
@@ -1,5 +1,6 @@
 package kitchenpos.menus.ui;
 
+import kitchenpos.common.ui.CursorPage;
 import kitchenpos.menus.application.MenuService;
 import kitchenpos.menus.domain.Menu;
 import org.springframework.http.ResponseEntity;
@@ -9,6 +10,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
@@ -47,7 +49,11 @@ public class MenuRestController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Menu>> findAll() {
-        return ResponseEntity.ok(menuService.findAll());
+    public ResponseEntity<List<Menu>> findAll(
+        @RequestParam(required = false) final UUID cursor,
+        @RequestParam(required = false) final Integer size
+    ) {
+        final int pageSize = CursorPage.size(size);
+        return CursorPage.of(menuService.findAll(cursor, pageSize), pageSize, Menu::getId);
     }
 }
@@ -0,0 +1,84 @@
+package kitchenpos.products.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import kitchenpos.menus.domain.MenuCatalogChangedEvent;
+import kitchenpos.products.domain.ProductPriceChange;
+import kitchenpos.products.domain.ProductPriceChangeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@ConditionalOnProperty(name = "kitchenpos.product.menu-revalidation.async", havingValue = "true")
+@Component
+public class MenuRevalidationWorker implements MeterBinder {
+    private final ProductPriceChangeRepository productPriceChangeRepository;
+    private final MenuRevalidator menuRevalidator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public MenuRevalidationWorker(
+        final ProductPriceChangeRepository productPriceChangeRepository,
+        final MenuRevalidator menuRevalidator,
+        final TransactionTemplate transactionTemplate,
+        final ApplicationEventPublisher eventPublisher,
+        @Value("${kitchenpos.product.menu-revalidation.batch-size:500}") final int batchSize
+    ) {
+        this.productPriceChangeRepository = productPriceChangeRepository;
+        this.menuRevalidator = menuRevalidator;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.product.menu-revalidation.interval-ms:1000}")
+    public void drain() {
+        menuRevalidator.lagMeasured(measureLag());
+        int drained;
+        do {
+            drained = transactionTemplate.execute(status -> drainBatch());
+        } while (drained == batchSize);
+        menuRevalidator.lagMeasured(measureLag());
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder("kitchenpos.product.menu-revalidation.lag", menuRevalidator, it -> it.lag().toMillis() / 1000.0)
+            .baseUnit("seconds")
+            .register(registry);
+    }
+
+    private Duration measureLag() {
+        return productPriceChangeRepository.findFirstByOrderBySeqAsc()
+            .map(change -> Duration.between(change.getChangedAt(), LocalDateTime.now()))
+            .orElse(Duration.ZERO);
+    }
+
+    private int drainBatch() {
+        final List<ProductPriceChange> changes = productPriceChangeRepository.findAllByOrderBySeqAsc(Limit.of(batchSize));
+        final Set<UUID> productIds = new LinkedHashSet<>();
+        for (final ProductPriceChange change : changes) {
+            productIds.add(change.getProductId());
+        }
+        menuRevalidator.revalidate(new ArrayList<>(productIds));
+        productPriceChangeRepository.deleteAllInBatch(changes);
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new MenuCatalogChangedEvent());
+        }
+        return changes.size();
+    }
+}
@@ -0,0 +1,61 @@
+package kitchenpos.products.application;
+
+import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.products.domain.ProductPriceChange;
+import kitchenpos.products.domain.ProductPriceChangeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+@Component
+public class MenuRevalidator {
+    private final MenuRepository menuRepository;
+    private final ProductPriceChangeRepository productPriceChangeRepository;
+    private final boolean async;
+    private final Duration maxStaleness;
+    private volatile Duration lag = Duration.ZERO;
+
+    public MenuRevalidator(
+        final MenuRepository menuRepository,
+        final ProductPriceChangeRepository productPriceChangeRepository,
+        @Value("${kitchenpos.product.menu-revalidation.async:false}") final boolean async,
+        @Value("${kitchenpos.product.menu-revalidation.max-staleness:10s}") final Duration maxStaleness
+    ) {
+        this.menuRepository = menuRepository;
+        this.productPriceChangeRepository = productPriceChangeRepository;
+        this.async = async;
+        this.maxStaleness = maxStaleness;
+    }
+
+    public OptionalInt productPricesChanged(final List<UUID> productIds) {
+        if (!async || lag.compareTo(maxStaleness) > 0) {
+            return OptionalInt.of(revalidate(productIds));
+        }
+        final LocalDateTime now = LocalDateTime.now();
+        for (final UUID productId : productIds) {
+            productPriceChangeRepository.save(new ProductPriceChange(productId, now));
+        }
+        return OptionalInt.empty();
+    }
+
+    public Duration lag() {
+        return lag;
+    }
+
+    void lagMeasured(final Duration lag) {
+        this.lag = lag;
+    }
+
+    public int revalidate(final List<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+        menuRepository.recalculateProductPriceSum(productIds);
+        return menuRepository.hideAllPricedOverProductPriceSum(productIds);
+    }
+}
@@ -0,0 +1,5 @@
+package kitchenpos.products.application;
+
+public enum ProductImportFormat {
+    NDJSON, CSV
+}
@@ -0,0 +1,6 @@
+package kitchenpos.products.application;
+
+import java.util.List;
+
+public record ProductImportReport(long succeeded, long failed, List<ProductImportResult> failures) {
+}
@@ -0,0 +1,17 @@
+package kitchenpos.products.application;
+
+import java.util.UUID;
+
+public record ProductImportResult(long line, UUID productId, String error) {
+    public static ProductImportResult success(final long line, final UUID productId) {
+        return new ProductImportResult(line, productId, null);
+    }
+
+    public static ProductImportResult failure(final long line, final String error) {
+        return new ProductImportResult(line, null, error);
+    }
+
+    public boolean isSucceeded() {
+        return productId != null;
+    }
+}
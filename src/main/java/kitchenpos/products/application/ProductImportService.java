@@ -0,0 +1,191 @@
+package kitchenpos.products.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.common.domain.Money;
+import kitchenpos.menus.domain.MenuCatalogChangedEvent;
+import kitchenpos.products.domain.Product;
+import kitchenpos.products.domain.ProductCreatedEvent;
+import kitchenpos.products.domain.ProductRepository;
+import kitchenpos.products.infra.PurgomalumClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class ProductImportService {
+    private static final String CSV_HEADER = "name,price";
+    private static final int MAX_REPORTED_FAILURES = 1_000;
+
+    private final ProductRepository productRepository;
+    private final PurgomalumClient purgomalumClient;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public ProductImportService(
+        final ProductRepository productRepository,
+        final PurgomalumClient purgomalumClient,
+        final ObjectMapper objectMapper,
+        final ApplicationEventPublisher eventPublisher,
+        @Value("${kitchenpos.product.import.chunk-size:1000}") final int chunkSize
+    ) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.productRepository = productRepository;
+        this.purgomalumClient = purgomalumClient;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    public ProductImportReport importProducts(final BufferedReader reader, final ProductImportFormat format) {
+        final Tally tally = new Tally();
+        final List<Line> chunk = new ArrayList<>(chunkSize);
+        long lineNumber = 0;
+        try {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                lineNumber++;
+                if (text.isBlank() || (format == ProductImportFormat.CSV && text.strip().equalsIgnoreCase(CSV_HEADER))) {
+                    continue;
+                }
+                chunk.add(new Line(lineNumber, text));
+                if (chunk.size() == chunkSize) {
+                    tally.add(importChunk(chunk, format));
+                    chunk.clear();
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        tally.add(importChunk(chunk, format));
+        return tally.toReport();
+    }
+
+    private List<ProductImportResult> importChunk(final List<Line> chunk, final ProductImportFormat format) {
+        if (chunk.isEmpty()) {
+            return List.of();
+        }
+        final List<ProductImportResult> chunkResults = new ArrayList<>(chunk.size());
+        final List<Line> parsed = new ArrayList<>(chunk.size());
+        for (final Line line : chunk) {
+            try {
+                line.product = new Product(parse(line.text, format));
+                parsed.add(line);
+            } catch (final IllegalArgumentException | JsonProcessingException e) {
+                chunkResults.add(ProductImportResult.failure(line.number, "invalid product"));
+            }
+        }
+        final Map<String, Boolean> profanities = purgomalumClient.containsProfanities(
+            parsed.stream()
+                .map(line -> line.product.getName())
+                .toList()
+        );
+        final List<Line> accepted = new ArrayList<>(parsed.size());
+        for (final Line line : parsed) {
+            if (profanities.get(line.product.getName())) {
+                chunkResults.add(ProductImportResult.failure(line.number, "name contains profanity"));
+                continue;
+            }
+            accepted.add(line);
+        }
+        chunkResults.addAll(insert(accepted));
+        chunkResults.sort(Comparator.comparingLong(ProductImportResult::line));
+        return chunkResults;
+    }
+
+    private List<ProductImportResult> insert(final List<Line> lines) {
+        if (lines.isEmpty()) {
+            return List.of();
+        }
+        try {
+            productRepository.insertAll(
+                lines.stream()
+                    .map(line -> line.product)
+                    .toList()
+            );
+        } catch (final RuntimeException e) {
+            return lines.stream()
+                .map(line -> ProductImportResult.failure(line.number, "insert failed"))
+                .toList();
+        }
+        for (final Line line : lines) {
+            eventPublisher.publishEvent(new ProductCreatedEvent(line.product.getId(), line.product.getName()));
+        }
+        eventPublisher.publishEvent(MenuCatalogChangedEvent.ofProducts(
+            lines.stream()
+                .map(line -> line.product.getId())
+                .toList()
+        ));
+        return lines.stream()
+            .map(line -> ProductImportResult.success(line.number, line.product.getId()))
+            .toList();
+    }
+
+    private Product parse(final String text, final ProductImportFormat format) throws JsonProcessingException {
+        if (format == ProductImportFormat.NDJSON) {
+            return objectMapper.readValue(text, Product.class);
+        }
+        final int separator = text.lastIndexOf(',');
+        if (separator < 0) {
+            throw new IllegalArgumentException();
+        }
+        final Product product = new Product();
+        product.setName(unquote(text.substring(0, separator).strip()));
+        product.setPrice(Money.from(new BigDecimal(text.substring(separator + 1).strip())));
+        return product;
+    }
+
+    private static String unquote(final String value) {
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            return value.substring(1, value.length() - 1)
+                .replace("\"\"", "\"");
+        }
+        return value;
+    }
+
+    private static class Tally {
+        private final List<ProductImportResult> failures = new ArrayList<>();
+        private long succeeded;
+        private long failed;
+
+        private void add(final List<ProductImportResult> results) {
+            for (final ProductImportResult result : results) {
+                if (result.isSucceeded()) {
+                    succeeded++;
+                    continue;
+                }
+                failed++;
+                if (failures.size() < MAX_REPORTED_FAILURES) {
+                    failures.add(result);
+                }
+            }
+        }
+
+        private ProductImportReport toReport() {
+            return new ProductImportReport(succeeded, failed, List.copyOf(failures));
+        }
+    }
+
+    private static class Line {
+        private final long number;
+        private final String text;
+        private Product product;
+
+        private Line(final long number, final String text) {
+            this.number = number;
+            this.text = text;
+        }
+    }
+}
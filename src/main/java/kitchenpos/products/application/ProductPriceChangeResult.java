@@ -0,0 +1,8 @@
+package kitchenpos.products.application;
+
+import kitchenpos.products.domain.Product;
+
+import java.util.List;
+
+public record ProductPriceChangeResult(List<Product> products, int hiddenMenuCount, boolean menuRevalidationPending) {
+}
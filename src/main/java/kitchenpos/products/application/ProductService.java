@@ -1,32 +1,44 @@
 package kitchenpos.products.application;
 
-import kitchenpos.menus.domain.Menu;
-import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.common.domain.Money;
+import kitchenpos.menus.domain.MenuCatalogChangedEvent;
 import kitchenpos.products.domain.Product;
+import kitchenpos.products.domain.ProductCreatedEvent;
 import kitchenpos.products.domain.ProductRepository;
 import kitchenpos.products.infra.PurgomalumClient;
-import kitchenpos.products.tobe.domain.ProductMenus;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.OptionalInt;
 import java.util.UUID;
 
 @Service
 public class ProductService {
+    private static final UUID FIRST_CURSOR = new UUID(0L, 0L);
+
     private final ProductRepository productRepository;
-    private final MenuRepository menuRepository;
+    private final MenuRevalidator menuRevalidator;
     private final PurgomalumClient purgomalumClient;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ProductService(
             final ProductRepository productRepository,
-            final MenuRepository menuRepository,
-            final PurgomalumClient purgomalumClient
+            final MenuRevalidator menuRevalidator,
+            final PurgomalumClient purgomalumClient,
+            final ApplicationEventPublisher eventPublisher
     ) {
         this.productRepository = productRepository;
-        this.menuRepository = menuRepository;
+        this.menuRevalidator = menuRevalidator;
         this.purgomalumClient = purgomalumClient;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -34,22 +46,66 @@ public class ProductService {
         if (purgomalumClient.containsProfanity(request.getName())) {
             throw new IllegalArgumentException();
         }
-        final Product product = new Product(request);
-        return productRepository.save(product);
+        final Product product = productRepository.save(new Product(request));
+        eventPublisher.publishEvent(new ProductCreatedEvent(product.getId(), product.getName()));
+        eventPublisher.publishEvent(MenuCatalogChangedEvent.ofProducts(List.of(product.getId())));
+        return product;
     }
 
     @Transactional
     public Product changePrice(final UUID productId, final Product request) {
         final Product product = productRepository.findById(productId)
                 .orElseThrow(NoSuchElementException::new);
+        final Money previousPrice = product.getPrice();
         product.changePrice(request.getPrice());
-        final List<Menu> menus = menuRepository.findAllByProductId(productId);
-        ProductMenus productMenus = new ProductMenus(menus);
+        if (!product.getPrice().equals(previousPrice)) {
+            menuRevalidator.productPricesChanged(List.of(productId));
+        }
+        eventPublisher.publishEvent(MenuCatalogChangedEvent.ofProducts(List.of(productId)));
         return product;
     }
 
+    @Transactional
+    public ProductPriceChangeResult changePrices(final List<Product> requests) {
+        if (Objects.isNull(requests) || requests.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        final Map<UUID, Money> prices = new LinkedHashMap<>();
+        for (final Product request : requests) {
+            if (Objects.isNull(request.getId()) || prices.put(request.getId(), request.getPrice()) != null) {
+                throw new IllegalArgumentException();
+            }
+        }
+        final List<Product> products = productRepository.findAllByIdIn(new ArrayList<>(prices.keySet()));
+        if (products.size() != prices.size()) {
+            throw new NoSuchElementException();
+        }
+        final List<UUID> changedProductIds = new ArrayList<>();
+        for (final Product product : products) {
+            final Money previousPrice = product.getPrice();
+            product.changePrice(prices.get(product.getId()));
+            if (!product.getPrice().equals(previousPrice)) {
+                changedProductIds.add(product.getId());
+            }
+        }
+        final OptionalInt hiddenMenuCount = menuRevalidator.productPricesChanged(changedProductIds);
+        eventPublisher.publishEvent(MenuCatalogChangedEvent.ofProducts(changedProductIds));
+        return new ProductPriceChangeResult(products, hiddenMenuCount.orElse(0), hiddenMenuCount.isEmpty());
+    }
+
     @Transactional(readOnly = true)
     public List<Product> findAll() {
         return productRepository.findAll();
     }
+
+    @Transactional(readOnly = true)
+    public List<Product> findAll(final UUID cursor, final int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException();
+        }
+        return productRepository.findAllByIdGreaterThanOrderByIdAsc(
+                Objects.requireNonNullElse(cursor, FIRST_CURSOR),
+                Limit.of(size)
+        );
+    }
 }
@@ -0,0 +1,17 @@
+package kitchenpos.products.domain;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
+
+public interface JpaProductPriceChangeRepository extends ProductPriceChangeRepository, JpaRepository<ProductPriceChange, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Override
+    List<ProductPriceChange> findAllByOrderBySeqAsc(Limit limit);
+}
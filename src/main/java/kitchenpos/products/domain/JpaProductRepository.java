@@ -4,5 +4,5 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.UUID;
 
-public interface JpaProductRepository extends ProductRepository, JpaRepository<Product, UUID> {
+public interface JpaProductRepository extends ProductRepository, ProductBulkInsertRepository, JpaRepository<Product, UUID> {
 }
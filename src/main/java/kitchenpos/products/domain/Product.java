@@ -1,14 +1,19 @@
 package kitchenpos.products.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import kitchenpos.common.domain.Money;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
-import java.math.BigDecimal;
 import java.util.Objects;
 import java.util.UUID;
 
+@JsonIgnoreProperties("hibernateLazyInitializer")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "product")
 @Entity
 public class Product {
@@ -20,12 +25,12 @@ public class Product {
     private String name;
 
     @Column(name = "price", nullable = false)
-    private BigDecimal price;
+    private Money price;
 
     public Product() {
     }
     public Product(Product product) {
-        if (Objects.isNull(product.getPrice()) || product.getPrice().compareTo(BigDecimal.ZERO) < 0) {
+        if (Objects.isNull(product.getPrice()) || product.getPrice().isNegative()) {
             throw new IllegalArgumentException();
         }
         if (Objects.isNull(product.getName())) {
@@ -52,16 +57,16 @@ public class Product {
         this.name = name;
     }
 
-    public BigDecimal getPrice() {
+    public Money getPrice() {
         return price;
     }
 
-    public void setPrice(final BigDecimal price) {
+    public void setPrice(final Money price) {
         this.price = price;
     }
 
-    public void changePrice(final BigDecimal price) {
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+    public void changePrice(final Money price) {
+        if (Objects.isNull(price) || price.isNegative()) {
             throw new IllegalArgumentException();
         }
         this.price = price;
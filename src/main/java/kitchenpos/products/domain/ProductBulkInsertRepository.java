@@ -0,0 +1,7 @@
+package kitchenpos.products.domain;
+
+import java.util.List;
+
+public interface ProductBulkInsertRepository {
+    void insertAll(List<Product> products);
+}
@@ -0,0 +1,6 @@
+package kitchenpos.products.domain;
+
+import java.util.UUID;
+
+public record ProductCreatedEvent(UUID productId, String name) {
+}
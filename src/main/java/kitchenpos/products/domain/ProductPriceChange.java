@@ -0,0 +1,50 @@
+package kitchenpos.products.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Table(name = "product_price_change")
+@Entity
+public class ProductPriceChange {
+    @Column(name = "seq")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    private Long seq;
+
+    @Column(name = "product_id", nullable = false, columnDefinition = "binary(16)")
+    private UUID productId;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    public ProductPriceChange() {
+    }
+
+    public ProductPriceChange(final UUID productId, final LocalDateTime changedAt) {
+        this.productId = productId;
+        this.changedAt = changedAt;
+    }
+
+    public Long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(final Long seq) {
+        this.seq = seq;
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+}
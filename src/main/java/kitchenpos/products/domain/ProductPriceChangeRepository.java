@@ -0,0 +1,21 @@
+package kitchenpos.products.domain;
+
+import org.springframework.data.domain.Limit;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ProductPriceChangeRepository {
+    ProductPriceChange save(ProductPriceChange productPriceChange);
+
+    List<ProductPriceChange> findAllByOrderBySeqAsc(Limit limit);
+
+    Optional<ProductPriceChange> findFirstByOrderBySeqAsc();
+
+    boolean existsByProductIdIn(Collection<UUID> productIds);
+
+    void deleteAllInBatch(Iterable<ProductPriceChange> productPriceChanges);
+}
+
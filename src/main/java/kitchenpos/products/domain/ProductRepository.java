@@ -1,5 +1,7 @@
 package kitchenpos.products.domain;
 
+import org.springframework.data.domain.Limit;
+
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,6 +13,10 @@ public interface ProductRepository {
 
     List<Product> findAll();
 
+    List<Product> findAllByIdGreaterThanOrderByIdAsc(UUID id, Limit limit);
+
     List<Product> findAllByIdIn(List<UUID> ids);
+
+    void insertAll(List<Product> products);
 }
 
@@ -0,0 +1,161 @@
+package kitchenpos.products.infra;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Primary
+@ConditionalOnProperty(name = "kitchenpos.purgomalum.engine", havingValue = "http", matchIfMissing = true)
+@Component
+public class CachingPurgomalumClient implements PurgomalumClient, MeterBinder {
+    private final PurgomalumClient delegate;
+    private final long maximumSize;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final Map<String, Verdict> verdicts = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    @Autowired
+    public CachingPurgomalumClient(
+        final DefaultPurgomalumClient delegate,
+        @Value("${kitchenpos.purgomalum.cache.maximum-size:10000}") final long maximumSize,
+        @Value("${kitchenpos.purgomalum.cache.time-to-live:1h}") final Duration timeToLive
+    ) {
+        this(delegate, maximumSize, timeToLive, Clock.systemUTC());
+    }
+
+    CachingPurgomalumClient(
+        final PurgomalumClient delegate,
+        final long maximumSize,
+        final Duration timeToLive,
+        final Clock clock
+    ) {
+        if (maximumSize <= 0 || timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException();
+        }
+        this.delegate = delegate;
+        this.maximumSize = maximumSize;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    @Override
+    public boolean containsProfanity(final String text) {
+        if (text == null) {
+            throw new IllegalArgumentException();
+        }
+        final Verdict cached = get(text);
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return cached.profane();
+        }
+        missCount.incrementAndGet();
+        final boolean profane = delegate.containsProfanity(text);
+        put(text, new Verdict(profane, clock.instant().plus(timeToLive)));
+        return profane;
+    }
+
+    @Override
+    public Map<String, Boolean> containsProfanities(final Collection<String> texts) {
+        final Map<String, Boolean> verdicts = new LinkedHashMap<>();
+        final Set<String> misses = new LinkedHashSet<>();
+        for (final String text : texts) {
+            if (text == null) {
+                throw new IllegalArgumentException();
+            }
+            if (verdicts.containsKey(text) || misses.contains(text)) {
+                continue;
+            }
+            final Verdict cached = get(text);
+            if (cached != null) {
+                hitCount.incrementAndGet();
+                verdicts.put(text, cached.profane());
+                continue;
+            }
+            misses.add(text);
+        }
+        if (misses.isEmpty()) {
+            return verdicts;
+        }
+        missCount.addAndGet(misses.size());
+        final Instant expiresAt = clock.instant().plus(timeToLive);
+        delegate.containsProfanities(misses).forEach((text, profane) -> {
+            put(text, new Verdict(profane, expiresAt));
+            verdicts.put(text, profane);
+        });
+        return verdicts;
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hitCount.get(), missCount.get(), evictionCount.get(), size());
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        FunctionCounter.builder("kitchenpos.purgomalum.cache.requests", hitCount, AtomicLong::get)
+            .tag("result", "hit")
+            .register(registry);
+        FunctionCounter.builder("kitchenpos.purgomalum.cache.requests", missCount, AtomicLong::get)
+            .tag("result", "miss")
+            .register(registry);
+        FunctionCounter.builder("kitchenpos.purgomalum.cache.evictions", evictionCount, AtomicLong::get)
+            .register(registry);
+        Gauge.builder("kitchenpos.purgomalum.cache.size", this, CachingPurgomalumClient::size)
+            .register(registry);
+    }
+
+    private synchronized Verdict get(final String text) {
+        final Verdict verdict = verdicts.get(text);
+        if (verdict == null) {
+            return null;
+        }
+        if (verdict.isExpired(clock.instant())) {
+            verdicts.remove(text);
+            evictionCount.incrementAndGet();
+            return null;
+        }
+        return verdict;
+    }
+
+    private synchronized void put(final String text, final Verdict verdict) {
+        verdicts.put(text, verdict);
+        final Iterator<Verdict> iterator = verdicts.values().iterator();
+        while (iterator.hasNext() && verdicts.size() > maximumSize) {
+            iterator.next();
+            iterator.remove();
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    private synchronized int size() {
+        return verdicts.size();
+    }
+
+    private record Verdict(boolean profane, Instant expiresAt) {
+        boolean isExpired(final Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+
+    public record CacheStats(long hitCount, long missCount, long evictionCount, long size) {
+    }
+}
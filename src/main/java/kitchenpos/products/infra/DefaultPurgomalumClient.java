@@ -6,9 +6,18 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 
 @Component
 public class DefaultPurgomalumClient implements PurgomalumClient {
+    private static final String SEPARATOR = "\n";
+    private static final int MAX_BATCH_LENGTH = 1_000;
+
     private final RestTemplate restTemplate;
 
     public DefaultPurgomalumClient(final RestTemplateBuilder restTemplateBuilder) {
@@ -26,4 +35,42 @@ public class DefaultPurgomalumClient implements PurgomalumClient {
             .toUri();
         return Boolean.parseBoolean(restTemplate.getForObject(url, String.class));
     }
+
+    @Override
+    public Map<String, Boolean> containsProfanities(final Collection<String> texts) {
+        final Map<String, Boolean> verdicts = new LinkedHashMap<>();
+        final List<String> batch = new ArrayList<>();
+        int length = 0;
+        for (final String text : new LinkedHashSet<>(texts)) {
+            if (text == null) {
+                throw new IllegalArgumentException();
+            }
+            if (!batch.isEmpty() && length + text.length() > MAX_BATCH_LENGTH) {
+                check(batch, verdicts);
+                batch.clear();
+                length = 0;
+            }
+            batch.add(text);
+            length += text.length() + SEPARATOR.length();
+        }
+        check(batch, verdicts);
+        return verdicts;
+    }
+
+    private void check(final List<String> texts, final Map<String, Boolean> verdicts) {
+        if (texts.isEmpty()) {
+            return;
+        }
+        if (texts.size() == 1) {
+            verdicts.put(texts.get(0), containsProfanity(texts.get(0)));
+            return;
+        }
+        if (!containsProfanity(String.join(SEPARATOR, texts))) {
+            texts.forEach(text -> verdicts.put(text, false));
+            return;
+        }
+        final int middle = texts.size() / 2;
+        check(texts.subList(0, middle), verdicts);
+        check(texts.subList(middle, texts.size()), verdicts);
+    }
 }
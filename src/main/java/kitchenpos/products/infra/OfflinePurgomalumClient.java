@@ -0,0 +1,54 @@
+package kitchenpos.products.infra;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@Primary
+@ConditionalOnProperty(name = "kitchenpos.purgomalum.engine", havingValue = "offline")
+@Component
+public class OfflinePurgomalumClient implements PurgomalumClient {
+    private final ProfanityAutomaton automaton;
+
+    @Autowired
+    public OfflinePurgomalumClient(
+        @Value("${kitchenpos.purgomalum.offline.words:classpath:profanities.txt}") final Resource words
+    ) {
+        this(readWords(words));
+    }
+
+    OfflinePurgomalumClient(final List<String> words) {
+        this.automaton = new ProfanityAutomaton(words);
+    }
+
+    @Override
+    public boolean containsProfanity(final String text) {
+        if (text == null) {
+            throw new IllegalArgumentException();
+        }
+        return automaton.matches(text);
+    }
+
+    private static List<String> readWords(final Resource resource) {
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)
+        )) {
+            return reader.lines()
+                .map(String::strip)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .toList();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
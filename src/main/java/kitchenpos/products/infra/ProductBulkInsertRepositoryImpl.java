@@ -0,0 +1,37 @@
+package kitchenpos.products.infra;
+
+import kitchenpos.products.domain.Product;
+import kitchenpos.products.domain.ProductBulkInsertRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+
+public class ProductBulkInsertRepositoryImpl implements ProductBulkInsertRepository {
+    private static final String INSERT_SQL = "insert into product (id, name, price) values (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductBulkInsertRepositoryImpl(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Transactional
+    @Override
+    public void insertAll(final List<Product> products) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, products, products.size(), (statement, product) -> {
+            statement.setBytes(1, toBytes(product.getId()));
+            statement.setString(2, product.getName());
+            statement.setBigDecimal(3, product.getPrice().toBigDecimal());
+        });
+    }
+
+    private static byte[] toBytes(final UUID id) {
+        return ByteBuffer.allocate(16)
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .array();
+    }
+}
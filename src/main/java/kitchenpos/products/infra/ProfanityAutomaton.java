@@ -0,0 +1,79 @@
+package kitchenpos.products.infra;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+
+class ProfanityAutomaton {
+    private final Node root = new Node();
+
+    ProfanityAutomaton(final Collection<String> words) {
+        for (final String word : words) {
+            final String normalized = normalize(word);
+            if (normalized.isBlank()) {
+                continue;
+            }
+            Node node = root;
+            for (int i = 0; i < normalized.length(); i++) {
+                node = node.children.computeIfAbsent(normalized.charAt(i), it -> new Node());
+            }
+            node.terminal = true;
+        }
+        linkFailures();
+    }
+
+    boolean matches(final String text) {
+        final String normalized = normalize(text);
+        Node node = root;
+        for (int i = 0; i < normalized.length(); i++) {
+            final char c = normalized.charAt(i);
+            while (node != root && !node.children.containsKey(c)) {
+                node = node.failure;
+            }
+            node = node.children.getOrDefault(c, root);
+            if (node.terminal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String normalize(final String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+            .toLowerCase(Locale.ROOT);
+    }
+
+    private void linkFailures() {
+        final Queue<Node> queue = new ArrayDeque<>();
+        root.failure = root;
+        for (final Node child : root.children.values()) {
+            child.failure = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            final Node node = queue.poll();
+            for (final Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                final char c = entry.getKey();
+                final Node child = entry.getValue();
+                Node failure = node.failure;
+                while (failure != root && !failure.children.containsKey(c)) {
+                    failure = failure.failure;
+                }
+                final Node target = failure.children.get(c);
+                child.failure = target != null && target != child ? target : root;
+                child.terminal |= child.failure.terminal;
+                queue.add(child);
+            }
+        }
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Node failure;
+        private boolean terminal;
+    }
+}
@@ -1,5 +1,17 @@
 package kitchenpos.products.infra;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 public interface PurgomalumClient {
     boolean containsProfanity(String text);
+
+    default Map<String, Boolean> containsProfanities(final Collection<String> texts) {
+        final Map<String, Boolean> verdicts = new LinkedHashMap<>();
+        for (final String text : texts) {
+            verdicts.computeIfAbsent(text, this::containsProfanity);
+        }
+        return verdicts;
+    }
 }
@@ -0,0 +1,41 @@
+package kitchenpos.products.ui;
+
+import kitchenpos.products.application.ProductImportFormat;
+import kitchenpos.products.application.ProductImportReport;
+import kitchenpos.products.application.ProductImportService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+@RequestMapping("/api/products/import")
+@RestController
+public class ProductImportRestController {
+    private final ProductImportService productImportService;
+
+    public ProductImportRestController(final ProductImportService productImportService) {
+        this.productImportService = productImportService;
+    }
+
+    @PostMapping(consumes = "application/x-ndjson")
+    public ResponseEntity<ProductImportReport> importNdjson(final InputStream body) throws IOException {
+        return ResponseEntity.ok(importProducts(body, ProductImportFormat.NDJSON));
+    }
+
+    @PostMapping(consumes = "text/csv")
+    public ResponseEntity<ProductImportReport> importCsv(final InputStream body) throws IOException {
+        return ResponseEntity.ok(importProducts(body, ProductImportFormat.CSV));
+    }
+
+    private ProductImportReport importProducts(final InputStream body, final ProductImportFormat format) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            return productImportService.importProducts(reader, format);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package kitchenpos.products.ui;
 
+import kitchenpos.common.ui.CursorPage;
+import kitchenpos.products.application.ProductPriceChangeResult;
 import kitchenpos.products.application.ProductService;
 import kitchenpos.products.domain.Product;
 import org.springframework.http.ResponseEntity;
@@ -9,6 +11,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
@@ -36,8 +39,17 @@ public class ProductRestController {
         return ResponseEntity.ok(productService.changePrice(productId, request));
     }
 
+    @PutMapping("/price")
+    public ResponseEntity<ProductPriceChangeResult> changePrices(@RequestBody final List<Product> requests) {
+        return ResponseEntity.ok(productService.changePrices(requests));
+    }
+
     @GetMapping
-    public ResponseEntity<List<Product>> findAll() {
-        return ResponseEntity.ok(productService.findAll());
+    public ResponseEntity<List<Product>> findAll(
+        @RequestParam(required = false) final UUID cursor,
+        @RequestParam(required = false) final Integer size
+    ) {
+        final int pageSize = CursorPage.size(size);
+        return CursorPage.of(productService.findAll(cursor, pageSize), pageSize, Product::getId);
     }
 }
@@ -0,0 +1,11 @@
+alter table menu
+    add column product_price_sum decimal(19, 2);
+
+update menu
+set product_price_sum = (select coalesce(sum(p.price * mp.quantity), 0)
+                         from menu_product mp
+                                  join product p on p.id = mp.product_id
+                         where mp.menu_id = menu.id);
+
+alter table menu
+    modify product_price_sum decimal(19, 2) not null;
@@ -0,0 +1,8 @@
+create table product_price_change
+(
+    seq         bigint         not null auto_increment,
+    product_id  binary(16)     not null,
+    price_delta decimal(19, 2) not null,
+    changed_at  datetime(6)    not null,
+    primary key (seq)
+) engine = InnoDB;
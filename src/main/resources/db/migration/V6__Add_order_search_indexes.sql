@@ -0,0 +1,7 @@
+create index ix_orders_status_order_date_time on orders (status, order_date_time);
+
+create index ix_orders_type_status_order_date_time on orders (type, status, order_date_time);
+
+create index ix_orders_order_table_id_status on orders (order_table_id, status);
+
+create index ix_orders_order_date_time on orders (order_date_time);
@@ -0,0 +1,2 @@
+alter table product_price_change
+    drop column price_delta;
@@ -0,0 +1,2 @@
+alter table order_idempotency_key
+    add column request_hash char(64);
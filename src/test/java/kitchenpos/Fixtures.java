@@ -1,5 +1,6 @@
 package kitchenpos;
 
+import kitchenpos.common.domain.Money;
 import kitchenpos.eatinorders.domain.Order;
 import kitchenpos.eatinorders.domain.OrderLineItem;
 import kitchenpos.eatinorders.domain.OrderStatus;
@@ -10,7 +11,6 @@ import kitchenpos.menus.domain.MenuGroup;
 import kitchenpos.menus.domain.MenuProduct;
 import kitchenpos.products.domain.Product;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Random;
@@ -31,7 +31,14 @@ public class Fixtures {
         final Menu menu = new Menu();
         menu.setId(UUID.randomUUID());
         menu.setName("후라이드+후라이드");
-        menu.setPrice(BigDecimal.valueOf(price));
+        menu.setPrice(Money.won(price));
+        menu.setProductPriceSum(
+            Arrays.stream(menuProducts)
+                .map(menuProduct -> menuProduct.getProduct()
+                    .getPrice()
+                    .times(menuProduct.getQuantity()))
+                .reduce(Money.ZERO, Money::plus)
+        );
         menu.setMenuGroup(menuGroup());
         menu.setDisplayed(displayed);
         menu.setMenuProducts(Arrays.asList(menuProducts));
@@ -125,7 +132,7 @@ public class Fixtures {
         final Product product = new Product();
         product.setId(UUID.randomUUID());
         product.setName(name);
-        product.setPrice(BigDecimal.valueOf(price));
+        product.setPrice(Money.won(price));
         return product;
     }
 }
@@ -0,0 +1,20 @@
+package kitchenpos;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+public class UnsignedUuidComparator implements Comparator<UUID> {
+    public static final UnsignedUuidComparator INSTANCE = new UnsignedUuidComparator();
+
+    private UnsignedUuidComparator() {
+    }
+
+    @Override
+    public int compare(final UUID first, final UUID second) {
+        final int result = Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits());
+        if (result != 0) {
+            return result;
+        }
+        return Long.compareUnsigned(first.getLeastSignificantBits(), second.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,72 @@
+package kitchenpos.catalog.application;
+
+import kitchenpos.menus.application.InMemoryMenuRepository;
+import kitchenpos.menus.domain.MenuCreatedEvent;
+import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.products.application.InMemoryProductRepository;
+import kitchenpos.products.domain.Product;
+import kitchenpos.products.domain.ProductCreatedEvent;
+import kitchenpos.products.domain.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+
+import java.util.UUID;
+
+import static kitchenpos.Fixtures.product;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogSearchServiceTest {
+    private ProductRepository productRepository;
+    private MenuRepository menuRepository;
+    private CatalogSearchService catalogSearchService;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = new InMemoryProductRepository();
+        menuRepository = new InMemoryMenuRepository();
+        catalogSearchService = new CatalogSearchService(productRepository, menuRepository);
+    }
+
+    @DisplayName("저장된 상품과 메뉴의 이름을 부분 문자열로 검색할 수 있다.")
+    @Test
+    void search() {
+        final Product product = productRepository.save(product("후라이드", 16_000L));
+        productRepository.save(product("양념치킨", 16_000L));
+        catalogSearchService.build();
+        final UUID menuId = UUID.randomUUID();
+        catalogSearchService.menuCreated(new MenuCreatedEvent(menuId, "후라이드+후라이드"));
+        final CatalogSearchResult actual = catalogSearchService.search("라이", 20);
+        assertThat(actual.products()).extracting(CatalogItem::id).containsExactly(product.getId());
+        assertThat(actual.menus()).extracting(CatalogItem::id).containsExactly(menuId);
+    }
+
+    @DisplayName("대소문자와 전각 문자를 구분하지 않고 검색한다.")
+    @Test
+    void normalize() {
+        final UUID productId = UUID.randomUUID();
+        catalogSearchService.productCreated(new ProductCreatedEvent(productId, "ＣＯＬＡ Zero"));
+        final CatalogSearchResult actual = catalogSearchService.search("cola z", 20);
+        assertThat(actual.products()).extracting(CatalogItem::id).containsExactly(productId);
+    }
+
+    @DisplayName("검색 결과는 요청한 개수를 넘지 않는다.")
+    @Test
+    void limit() {
+        for (int i = 0; i < 5; i++) {
+            catalogSearchService.productCreated(new ProductCreatedEvent(UUID.randomUUID(), "치킨" + i));
+        }
+        assertThat(catalogSearchService.search("치킨", 3).products()).hasSize(3);
+    }
+
+    @DisplayName("검색어가 없으면 검색할 수 없다.")
+    @NullAndEmptySource
+    @ParameterizedTest
+    void search(final String query) {
+        assertThatThrownBy(() -> catalogSearchService.search(query, 20))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
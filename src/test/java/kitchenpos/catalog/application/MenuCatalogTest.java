@@ -0,0 +1,150 @@
+package kitchenpos.catalog.application;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.common.domain.Money;
+import kitchenpos.menus.application.InMemoryMenuGroupRepository;
+import kitchenpos.menus.application.InMemoryMenuRepository;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuCatalogChangedEvent;
+import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.products.application.InMemoryProductRepository;
+import kitchenpos.products.domain.Product;
+import kitchenpos.products.domain.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static kitchenpos.Fixtures.menu;
+import static kitchenpos.Fixtures.menuProduct;
+import static kitchenpos.Fixtures.product;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class MenuCatalogTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MenuRepository menuRepository;
+    private ProductRepository productRepository;
+    private MenuCatalog menuCatalog;
+
+    @BeforeEach
+    void setUp() {
+        menuRepository = new InMemoryMenuRepository();
+        productRepository = new InMemoryProductRepository();
+        menuCatalog = new MenuCatalog(menuRepository, new InMemoryMenuGroupRepository(), productRepository, objectMapper);
+    }
+
+    @DisplayName("노출된 메뉴만 메뉴 그룹별로 모은다.")
+    @Test
+    void build() throws Exception {
+        final Menu displayed = menuRepository.save(menu(19_000L, true, menuProduct()));
+        menuRepository.save(menu(19_000L, false, menuProduct()));
+        menuCatalog.build();
+        final MenuCatalogSnapshot actual = menuCatalog.snapshot();
+        final JsonNode json = objectMapper.readTree(actual.toJson());
+        assertAll(
+            () -> assertThat(actual.getMenuGroups()).hasSize(1),
+            () -> assertThat(actual.getMenuGroups().get(0).id()).isEqualTo(displayed.getMenuGroup().getId()),
+            () -> assertThat(actual.getMenuGroups().get(0).menus()).extracting(CatalogMenu::id).containsExactly(displayed.getId()),
+            () -> assertThat(json.get(0).get("menus").get(0).get("id").asText()).isEqualTo(displayed.getId().toString())
+        );
+    }
+
+    @DisplayName("카탈로그가 바뀌면 다음 갱신 때 새 스냅샷으로 교체한다.")
+    @Test
+    void catalogChanged() {
+        menuCatalog.build();
+        final MenuCatalogSnapshot previous = menuCatalog.snapshot();
+        final Menu menu = menuRepository.save(menu(19_000L, true, menuProduct()));
+        menuCatalog.catalogChanged(new MenuCatalogChangedEvent());
+        assertAll(
+            () -> assertThat(menuCatalog.snapshot()).isSameAs(previous),
+            () -> assertThat(menuCatalog.refresh()).isTrue(),
+            () -> assertThat(previous.getMenuGroups()).isEmpty(),
+            () -> assertThat(menuCatalog.snapshot().getMenuGroups().get(0).menus())
+                .extracting(CatalogMenu::id)
+                .containsExactly(menu.getId())
+        );
+    }
+
+    @DisplayName("여러 번 바뀌어도 스냅샷은 갱신할 때 한 번만 다시 만든다.")
+    @Test
+    void refresh() {
+        menuCatalog.build();
+        final String version = menuCatalog.snapshot().getVersion();
+        menuCatalog.catalogChanged(new MenuCatalogChangedEvent());
+        menuCatalog.catalogChanged(new MenuCatalogChangedEvent());
+        assertAll(
+            () -> assertThat(menuCatalog.refresh()).isTrue(),
+            () -> assertThat(menuCatalog.refresh()).isFalse(),
+            () -> assertThat(menuCatalog.snapshot().getVersion()).isNotEqualTo(version),
+            () -> assertThat(menuCatalog.snapshot().changesSince(version).full()).isFalse()
+        );
+    }
+
+    @DisplayName("변경 이후 바뀐 상품과 메뉴, 숨겨진 메뉴만 내려준다.")
+    @Test
+    void changesSince() {
+        final Product product = productRepository.save(product("후라이드", 16_000L));
+        final Product unchanged = productRepository.save(product("양념치킨", 16_000L));
+        final Menu menu = menuRepository.save(menu(19_000L, true, menuProduct(product, 2L)));
+        menuCatalog.build();
+        final String since = menuCatalog.snapshot().getVersion();
+        product.setPrice(Money.won(8_000L));
+        menu.setDisplayed(false);
+        menuCatalog.catalogChanged(MenuCatalogChangedEvent.ofProducts(List.of(product.getId())));
+        menuCatalog.refresh();
+        final MenuCatalogDelta actual = menuCatalog.snapshot().changesSince(since);
+        assertAll(
+            () -> assertThat(actual.version()).isNotEqualTo(since),
+            () -> assertThat(actual.full()).isFalse(),
+            () -> assertThat(actual.products()).extracting(CatalogProduct::id).containsExactly(product.getId()),
+            () -> assertThat(actual.products()).extracting(CatalogProduct::id).doesNotContain(unchanged.getId()),
+            () -> assertThat(actual.menus()).isEmpty(),
+            () -> assertThat(actual.hiddenMenuIds()).containsExactly(menu.getId())
+        );
+    }
+
+    @DisplayName("알 수 없는 버전을 보내면 전체 카탈로그를 내려준다.")
+    @Test
+    void changesSinceUnknownVersion() {
+        productRepository.save(product("후라이드", 16_000L));
+        menuCatalog.build();
+        final MenuCatalogDelta actual = menuCatalog.snapshot().changesSince("0");
+        assertAll(
+            () -> assertThat(actual.full()).isTrue(),
+            () -> assertThat(actual.products()).hasSize(1)
+        );
+    }
+
+    @DisplayName("이 서버가 만들지 않은 버전을 보내면 전체 카탈로그를 내려준다.")
+    @Test
+    void changesSinceForeignVersion() {
+        productRepository.save(product("후라이드", 16_000L));
+        final MenuCatalog other = new MenuCatalog(menuRepository, new InMemoryMenuGroupRepository(), productRepository, objectMapper);
+        other.build();
+        menuCatalog.build();
+        final MenuCatalogDelta actual = menuCatalog.snapshot().changesSince(other.snapshot().getVersion());
+        assertAll(
+            () -> assertThat(actual.full()).isTrue(),
+            () -> assertThat(actual.products()).hasSize(1)
+        );
+    }
+
+    @DisplayName("갱신할 때는 바뀐 상품만 다시 읽는다.")
+    @Test
+    void refreshChangedProductsOnly() {
+        final Product changed = productRepository.save(product("후라이드", 16_000L));
+        final Product untouched = productRepository.save(product("양념치킨", 16_000L));
+        menuCatalog.build();
+        final String since = menuCatalog.snapshot().getVersion();
+        changed.setPrice(Money.won(17_000L));
+        untouched.setPrice(Money.won(17_000L));
+        menuCatalog.catalogChanged(MenuCatalogChangedEvent.ofProducts(List.of(changed.getId())));
+        menuCatalog.refresh();
+        final MenuCatalogDelta actual = menuCatalog.snapshot().changesSince(since);
+        assertThat(actual.products()).extracting(CatalogProduct::id).containsExactly(changed.getId());
+    }
+}
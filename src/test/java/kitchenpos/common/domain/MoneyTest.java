@@ -0,0 +1,54 @@
+package kitchenpos.common.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class MoneyTest {
+    @DisplayName("소수점 둘째 자리까지의 금액을 정확하게 계산한다.")
+    @Test
+    void arithmetic() {
+        final Money actual = Money.from(new BigDecimal("16000.50"))
+            .times(2L)
+            .plus(Money.won(1_000L))
+            .minus(Money.from(new BigDecimal("0.01")));
+        assertAll(
+            () -> assertThat(actual.toBigDecimal()).isEqualTo(new BigDecimal("33000.99")),
+            () -> assertThat(actual.getMinorUnits()).isEqualTo(3_300_099L),
+            () -> assertThat(actual).isEqualTo(Money.from(new BigDecimal("33000.990")))
+        );
+    }
+
+    @DisplayName("소수점 셋째 자리 이하의 금액은 만들 수 없다.")
+    @Test
+    void tooPrecise() {
+        assertThatThrownBy(() -> Money.from(new BigDecimal("0.001")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("계산 결과가 범위를 넘으면 예외가 발생한다.")
+    @Test
+    void overflow() {
+        final Money max = Money.ofMinorUnits(Long.MAX_VALUE);
+        assertAll(
+            () -> assertThatThrownBy(() -> max.plus(Money.ofMinorUnits(1L))).isInstanceOf(ArithmeticException.class),
+            () -> assertThatThrownBy(() -> max.times(2L)).isInstanceOf(ArithmeticException.class),
+            () -> assertThatThrownBy(() -> Money.won(Long.MAX_VALUE)).isInstanceOf(ArithmeticException.class)
+        );
+    }
+
+    @DisplayName("금액의 크기를 비교할 수 있다.")
+    @Test
+    void compare() {
+        assertAll(
+            () -> assertThat(Money.won(19_000L).isGreaterThan(Money.won(16_000L))).isTrue(),
+            () -> assertThat(Money.won(-1L).isNegative()).isTrue(),
+            () -> assertThat(Money.ZERO.isNegative()).isFalse()
+        );
+    }
+}
@@ -0,0 +1,252 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.common.domain.Money;
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderIdempotencyKey;
+import kitchenpos.eatinorders.domain.OrderIdempotencyKeyRepository;
+import kitchenpos.eatinorders.domain.OrderLineItem;
+import kitchenpos.eatinorders.domain.OrderRepository;
+import kitchenpos.eatinorders.domain.OrderType;
+import kitchenpos.menus.application.InMemoryMenuRepository;
+import kitchenpos.menus.domain.MenuRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static kitchenpos.Fixtures.menu;
+import static kitchenpos.Fixtures.menuProduct;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class IdempotentOrderServiceTest {
+    private OrderRepository orderRepository;
+    private MenuRepository menuRepository;
+    private OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private CountingOrderService orderService;
+    private IdempotentOrderService idempotentOrderService;
+    private UUID menuId;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = new InMemoryOrderRepository();
+        menuRepository = new InMemoryMenuRepository();
+        orderIdempotencyKeyRepository = new InMemoryOrderIdempotencyKeyRepository();
+        orderService = new CountingOrderService(orderRepository, menuRepository, orderIdempotencyKeyRepository);
+        idempotentOrderService = new IdempotentOrderService(
+            orderService,
+            orderRepository,
+            orderIdempotencyKeyRepository,
+            10_000L,
+            Duration.ofHours(24L),
+            Duration.ofSeconds(10L)
+        );
+        menuId = menuRepository.save(menu(19_000L, true, menuProduct())).getId();
+    }
+
+    @DisplayName("같은 멱등 키로 다시 요청하면 처음 등록된 주문을 돌려준다.")
+    @Test
+    void createWithSameIdempotencyKey() {
+        final Order first = idempotentOrderService.create("key", createOrderRequest(19_000L));
+        final Order second = idempotentOrderService.create("key", createOrderRequest(19_000L));
+        assertAll(
+            () -> assertThat(second.getId()).isEqualTo(first.getId()),
+            () -> assertThat(orderRepository.findAll()).hasSize(1),
+            () -> assertThat(orderService.createCount).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("같은 멱등 키로 내용이 다른 주문을 요청하면 거부한다.")
+    @Test
+    void createWithSameIdempotencyKeyAndDifferentRequest() {
+        idempotentOrderService.create("key", createOrderRequest(19_000L, 1L));
+        assertAll(
+            () -> assertThatThrownBy(() -> idempotentOrderService.create("key", createOrderRequest(19_000L, 2L)))
+                .isInstanceOf(IdempotencyKeyReusedException.class),
+            () -> assertThat(orderRepository.findAll()).hasSize(1)
+        );
+    }
+
+    @DisplayName("멱등 키가 없으면 요청할 때마다 주문을 등록한다.")
+    @Test
+    void createWithoutIdempotencyKey() {
+        idempotentOrderService.create(null, createOrderRequest(19_000L));
+        idempotentOrderService.create(null, createOrderRequest(19_000L));
+        assertThat(orderRepository.findAll()).hasSize(2);
+    }
+
+    @DisplayName("멱등 키가 올바르지 않으면 주문을 등록할 수 없다.")
+    @ValueSource(strings = {"", " "})
+    @ParameterizedTest
+    void createWithInvalidIdempotencyKey(final String idempotencyKey) {
+        assertThatThrownBy(() -> idempotentOrderService.create(idempotencyKey, createOrderRequest(19_000L)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("같은 멱등 키로 동시에 요청해도 주문은 한 번만 등록된다.")
+    @Test
+    void createConcurrentlyWithSameIdempotencyKey() throws Exception {
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Order>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                futures.add(executorService.submit(() -> idempotentOrderService.create("key", createOrderRequest(19_000L))));
+            }
+            final List<UUID> orderIds = new ArrayList<>();
+            for (final Future<Order> future : futures) {
+                orderIds.add(future.get().getId());
+            }
+            assertAll(
+                () -> assertThat(orderIds).containsOnly(orderIds.get(0)),
+                () -> assertThat(orderService.createCount).isEqualTo(1)
+            );
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @DisplayName("다른 서버에서 저장한 멱등 키가 있으면 그 주문을 돌려준다.")
+    @Test
+    void createWithPersistedIdempotencyKey() {
+        final Order order = orderService.create(createOrderRequest(19_000L));
+        orderIdempotencyKeyRepository.save(new OrderIdempotencyKey(
+            "key", order.getId(), IdempotentOrderService.hash(createOrderRequest(19_000L)), LocalDateTime.now()
+        ));
+        final Order actual = idempotentOrderService.create("key", createOrderRequest(19_000L));
+        assertAll(
+            () -> assertThat(actual.getId()).isEqualTo(order.getId()),
+            () -> assertThat(orderRepository.findAll()).hasSize(1)
+        );
+    }
+
+    @DisplayName("다른 서버에서 저장한 멱등 키와 주문 내용이 다르면 거부한다.")
+    @Test
+    void createWithPersistedIdempotencyKeyAndDifferentRequest() {
+        final Order order = orderService.create(createOrderRequest(19_000L));
+        orderIdempotencyKeyRepository.save(new OrderIdempotencyKey(
+            "key", order.getId(), IdempotentOrderService.hash(createOrderRequest(19_000L)), LocalDateTime.now()
+        ));
+        assertThatThrownBy(() -> idempotentOrderService.create("key", createOrderRequest(19_000L, 2L)))
+            .isInstanceOf(IdempotencyKeyReusedException.class);
+    }
+
+    @DisplayName("먼저 들어온 같은 멱등 키의 요청이 끝나지 않으면 정해진 시간만 기다린다.")
+    @Test
+    void createWhileFirstSubmissionIsStuck() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        orderService.gate(started, release);
+        idempotentOrderService = new IdempotentOrderService(
+            orderService,
+            orderRepository,
+            orderIdempotencyKeyRepository,
+            10_000L,
+            Duration.ofHours(24L),
+            Duration.ofMillis(100L)
+        );
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Order> first = executorService.submit(() -> idempotentOrderService.create("key", createOrderRequest(19_000L)));
+            started.await();
+            assertThatThrownBy(() -> idempotentOrderService.create("key", createOrderRequest(19_000L)))
+                .isInstanceOf(IllegalStateException.class);
+            release.countDown();
+            assertThat(first.get().getId()).isNotNull();
+        } finally {
+            release.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    @DisplayName("주문 등록에 실패하면 같은 멱등 키로 다시 요청할 수 있다.")
+    @Test
+    void createAfterFailure() {
+        assertThatThrownBy(() -> idempotentOrderService.create("key", createOrderRequest(16_000L)))
+            .isInstanceOf(IllegalArgumentException.class);
+        final Order actual = idempotentOrderService.create("key", createOrderRequest(19_000L));
+        assertThat(actual.getId()).isNotNull();
+    }
+
+    @DisplayName("오래된 멱등 키는 삭제된다.")
+    @Test
+    void purgeExpired() {
+        orderIdempotencyKeyRepository.save(new OrderIdempotencyKey("old", UUID.randomUUID(), null, LocalDateTime.now().minusDays(2L)));
+        orderIdempotencyKeyRepository.save(new OrderIdempotencyKey("new", UUID.randomUUID(), null, LocalDateTime.now()));
+        assertAll(
+            () -> assertThat(idempotentOrderService.purgeExpired()).isEqualTo(1),
+            () -> assertThat(orderIdempotencyKeyRepository.findById("old")).isEmpty(),
+            () -> assertThat(orderIdempotencyKeyRepository.findById("new")).isPresent()
+        );
+    }
+
+    private Order createOrderRequest(final long price) {
+        return createOrderRequest(price, 1L);
+    }
+
+    private Order createOrderRequest(final long price, final long quantity) {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenuId(menuId);
+        orderLineItem.setPrice(Money.won(price));
+        orderLineItem.setQuantity(quantity);
+        final Order order = new Order();
+        order.setType(OrderType.TAKEOUT);
+        order.setOrderLineItems(Arrays.asList(orderLineItem));
+        return order;
+    }
+
+    private static class CountingOrderService extends OrderService {
+        private volatile int createCount;
+        private volatile CountDownLatch started;
+        private volatile CountDownLatch release;
+
+        CountingOrderService(
+            final OrderRepository orderRepository,
+            final MenuRepository menuRepository,
+            final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository
+        ) {
+            super(
+                orderRepository,
+                menuRepository,
+                new InMemoryOrderTableRepository(),
+                orderIdempotencyKeyRepository,
+                new FakeKitchenridersClient(),
+                event -> {
+                }
+            );
+        }
+
+        void gate(final CountDownLatch started, final CountDownLatch release) {
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        public synchronized Order create(final Order request, final String idempotencyKey, final String requestHash) {
+            createCount++;
+            if (Objects.nonNull(started)) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+            }
+            return super.create(request, idempotencyKey, requestHash);
+        }
+    }
+}
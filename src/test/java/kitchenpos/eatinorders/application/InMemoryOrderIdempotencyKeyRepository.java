@@ -0,0 +1,34 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.OrderIdempotencyKey;
+import kitchenpos.eatinorders.domain.OrderIdempotencyKeyRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryOrderIdempotencyKeyRepository implements OrderIdempotencyKeyRepository {
+    private final Map<String, OrderIdempotencyKey> orderIdempotencyKeys = new ConcurrentHashMap<>();
+
+    @Override
+    public OrderIdempotencyKey save(final OrderIdempotencyKey orderIdempotencyKey) {
+        if (orderIdempotencyKeys.putIfAbsent(orderIdempotencyKey.getId(), orderIdempotencyKey) != null) {
+            throw new DataIntegrityViolationException(orderIdempotencyKey.getId());
+        }
+        return orderIdempotencyKey;
+    }
+
+    @Override
+    public Optional<OrderIdempotencyKey> findById(final String idempotencyKey) {
+        return Optional.ofNullable(orderIdempotencyKeys.get(idempotencyKey));
+    }
+
+    @Override
+    public int deleteAllByCreatedAtBefore(final LocalDateTime createdAt) {
+        final int size = orderIdempotencyKeys.size();
+        orderIdempotencyKeys.values().removeIf(orderIdempotencyKey -> orderIdempotencyKey.getCreatedAt().isBefore(createdAt));
+        return size - orderIdempotencyKeys.size();
+    }
+}
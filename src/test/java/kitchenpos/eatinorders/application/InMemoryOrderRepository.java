@@ -1,15 +1,25 @@
 package kitchenpos.eatinorders.application;
 
+import kitchenpos.UnsignedUuidComparator;
 import kitchenpos.eatinorders.domain.Order;
 import kitchenpos.eatinorders.domain.OrderRepository;
+import kitchenpos.eatinorders.domain.OrderSearchCondition;
 import kitchenpos.eatinorders.domain.OrderStatus;
+import kitchenpos.eatinorders.domain.OrderStatusView;
 import kitchenpos.eatinorders.domain.OrderTable;
+import kitchenpos.eatinorders.domain.OrderType;
+import org.springframework.data.domain.Limit;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public class InMemoryOrderRepository implements OrderRepository {
@@ -31,10 +41,73 @@ public class InMemoryOrderRepository implements OrderRepository {
         return new ArrayList<>(orders.values());
     }
 
+    @Override
+    public List<Order> findAllByIdGreaterThanOrderByIdAsc(final UUID id, final Limit limit) {
+        return orders.values()
+            .stream()
+            .filter(order -> UnsignedUuidComparator.INSTANCE.compare(order.getId(), id) > 0)
+            .sorted(Comparator.comparing(Order::getId, UnsignedUuidComparator.INSTANCE))
+            .limit(limit.isLimited() ? limit.max() : Long.MAX_VALUE)
+            .toList();
+    }
+
+    @Override
+    public List<Order> findAllByIdIn(final List<UUID> ids) {
+        return orders.values()
+            .stream()
+            .filter(order -> ids.contains(order.getId()))
+            .toList();
+    }
+
+    @Override
+    public List<OrderStatusView> findAllStatusViewsByIdIn(final List<UUID> ids) {
+        return findAllByIdIn(ids).stream()
+            .map(order -> new OrderStatusView(order.getId(), order.getStatus()))
+            .toList();
+    }
+
+    @Override
+    public List<Order> findAllByCondition(
+        final Collection<OrderStatus> statuses,
+        final OrderType type,
+        final UUID orderTableId,
+        final LocalDateTime from,
+        final LocalDateTime to,
+        final UUID cursor,
+        final Limit limit
+    ) {
+        final OrderSearchCondition condition = new OrderSearchCondition(Set.copyOf(statuses), type, orderTableId, from, to);
+        final Comparator<Order> keyset = Comparator.comparing(Order::getOrderDateTime)
+            .thenComparing(Order::getId, UnsignedUuidComparator.INSTANCE);
+        final Order cursorOrder = Objects.isNull(cursor) ? null : orders.get(cursor);
+        return orders.values()
+            .stream()
+            .filter(condition::matches)
+            .filter(order -> Objects.isNull(cursor) || Objects.nonNull(cursorOrder) && keyset.compare(order, cursorOrder) > 0)
+            .sorted(keyset)
+            .limit(limit.isLimited() ? limit.max() : Long.MAX_VALUE)
+            .toList();
+    }
+
     @Override
     public boolean existsByOrderTableAndStatusNot(final OrderTable orderTable, final OrderStatus status) {
         return orders.values()
             .stream()
             .anyMatch(order -> order.getOrderTable().equals(orderTable) && order.getStatus() != status);
     }
+
+    @Override
+    public int updateStatus(
+        final UUID id,
+        final Collection<OrderType> types,
+        final OrderStatus expected,
+        final OrderStatus status
+    ) {
+        final Order order = orders.get(id);
+        if (Objects.isNull(order) || !types.contains(order.getType()) || order.getStatus() != expected) {
+            return 0;
+        }
+        order.setStatus(status);
+        return 1;
+    }
 }
@@ -1,9 +1,12 @@
 package kitchenpos.eatinorders.application;
 
+import kitchenpos.UnsignedUuidComparator;
 import kitchenpos.eatinorders.domain.OrderTable;
 import kitchenpos.eatinorders.domain.OrderTableRepository;
+import org.springframework.data.domain.Limit;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,4 +31,14 @@ public class InMemoryOrderTableRepository implements OrderTableRepository {
     public List<OrderTable> findAll() {
         return new ArrayList<>(orderTables.values());
     }
+
+    @Override
+    public List<OrderTable> findAllByIdGreaterThanOrderByIdAsc(final UUID id, final Limit limit) {
+        return orderTables.values()
+            .stream()
+            .filter(orderTable -> UnsignedUuidComparator.INSTANCE.compare(orderTable.getId(), id) > 0)
+            .sorted(Comparator.comparing(OrderTable::getId, UnsignedUuidComparator.INSTANCE))
+            .limit(limit.isLimited() ? limit.max() : Long.MAX_VALUE)
+            .toList();
+    }
 }
@@ -0,0 +1,152 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.OrderStatus;
+import kitchenpos.eatinorders.domain.OrderStatusChangedEvent;
+import kitchenpos.eatinorders.domain.OrderType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class OrderEventStreamTest {
+    private OrderEventStream orderEventStream;
+
+    @BeforeEach
+    void setUp() {
+        orderEventStream = new OrderEventStream(3, 2, Runnable::run);
+    }
+
+    @DisplayName("구독한 주문 유형과 상태의 변경만 전달받는다.")
+    @Test
+    void subscribe() {
+        final List<OrderEvent> received = new ArrayList<>();
+        orderEventStream.subscribe(null, OrderType.EAT_IN, OrderStatus.WAITING, received::add, () -> {
+        });
+        final UUID orderId = UUID.randomUUID();
+        publish(orderId, OrderType.EAT_IN, OrderStatus.WAITING);
+        publish(UUID.randomUUID(), OrderType.DELIVERY, OrderStatus.WAITING);
+        publish(orderId, OrderType.EAT_IN, OrderStatus.ACCEPTED);
+        assertAll(
+            () -> assertThat(received).hasSize(1),
+            () -> assertThat(received.get(0).orderId()).isEqualTo(orderId)
+        );
+    }
+
+    @DisplayName("마지막으로 받은 이벤트 이후의 변경부터 다시 전달받는다.")
+    @Test
+    void resume() {
+        final List<OrderEvent> first = new ArrayList<>();
+        final OrderEventStream.Subscription subscription = orderEventStream.subscribe(null, null, null, first::add, () -> {
+        });
+        publish(UUID.randomUUID(), OrderType.TAKEOUT, OrderStatus.WAITING);
+        subscription.cancel();
+        publish(UUID.randomUUID(), OrderType.TAKEOUT, OrderStatus.ACCEPTED);
+        publish(UUID.randomUUID(), OrderType.TAKEOUT, OrderStatus.SERVED);
+        final List<OrderEvent> second = new ArrayList<>();
+        final OrderEventStream.Subscription resumed = orderEventStream.subscribe(first.get(0).id(), null, null, second::add, () -> {
+        });
+        assertAll(
+            () -> assertThat(resumed.isResumed()).isTrue(),
+            () -> assertThat(second).extracting(OrderEvent::status)
+                .containsExactly(OrderStatus.ACCEPTED, OrderStatus.SERVED)
+        );
+    }
+
+    @DisplayName("놓친 변경이 남아 있지 않으면 이어서 받을 수 없다.")
+    @Test
+    void resumeAfterEviction() {
+        final List<OrderEvent> first = new ArrayList<>();
+        final OrderEventStream.Subscription subscription = orderEventStream.subscribe(null, null, null, first::add, () -> {
+        });
+        publish(UUID.randomUUID(), OrderType.TAKEOUT, OrderStatus.WAITING);
+        subscription.cancel();
+        for (int i = 0; i < 4; i++) {
+            publish(UUID.randomUUID(), OrderType.TAKEOUT, OrderStatus.ACCEPTED);
+        }
+        final List<OrderEvent> second = new ArrayList<>();
+        final OrderEventStream.Subscription resumed = orderEventStream.subscribe(first.get(0).id(), null, null, second::add, () -> {
+        });
+        assertAll(
+            () -> assertThat(resumed.isResumed()).isFalse(),
+            () -> assertThat(second).isEmpty()
+        );
+    }
+
+    @DisplayName("다른 스트림이 발급한 이벤트 이후로는 이어서 받을 수 없다.")
+    @Test
+    void resumeFromForeignEvent() {
+        final OrderEventStream other = new OrderEventStream(3, 2, Runnable::run);
+        final List<OrderEvent> foreign = new ArrayList<>();
+        other.subscribe(null, null, null, foreign::add, () -> {
+        });
+        other.orderStatusChanged(
+            new OrderStatusChangedEvent(UUID.randomUUID(), OrderType.TAKEOUT, OrderStatus.WAITING, LocalDateTime.now())
+        );
+        publish(UUID.randomUUID(), OrderType.TAKEOUT, OrderStatus.WAITING);
+        publish(UUID.randomUUID(), OrderType.TAKEOUT, OrderStatus.ACCEPTED);
+        final List<OrderEvent> received = new ArrayList<>();
+        final OrderEventStream.Subscription resumed = orderEventStream.subscribe(foreign.get(0).id(), null, null, received::add, () -> {
+        });
+        assertAll(
+            () -> assertThat(resumed.isResumed()).isFalse(),
+            () -> assertThat(received).isEmpty()
+        );
+    }
+
+    @DisplayName("전달에 실패한 구독은 해지된다.")
+    @Test
+    void cancelOnFailure() {
+        orderEventStream.subscribe(null, null, null, event -> {
+            throw new IllegalStateException();
+        }, () -> {
+        });
+        publish(UUID.randomUUID(), OrderType.TAKEOUT, OrderStatus.WAITING);
+        assertThat(orderEventStream.subscriptionCount()).isZero();
+    }
+
+    @DisplayName("구독자가 받아 가지 않아도 주문 변경은 기다리지 않고 발행된다.")
+    @Test
+    void publishWithoutWaitingForSubscriber() {
+        final List<Runnable> tasks = new ArrayList<>();
+        orderEventStream = new OrderEventStream(3, 2, tasks::add);
+        final List<OrderEvent> received = new ArrayList<>();
+        orderEventStream.subscribe(null, null, null, received::add, () -> {
+        });
+        publish(UUID.randomUUID(), OrderType.TAKEOUT, OrderStatus.WAITING);
+        assertThat(received).isEmpty();
+        tasks.forEach(Runnable::run);
+        assertThat(received).hasSize(1);
+    }
+
+    @DisplayName("받아 가지 않은 변경이 대기열을 넘치면 구독이 해지된다.")
+    @Test
+    void cancelOnOverflow() {
+        orderEventStream = new OrderEventStream(3, 2, task -> {
+        });
+        final AtomicBoolean cancelled = new AtomicBoolean();
+        final OrderEventStream.Subscription subscription = orderEventStream.subscribe(
+            null, null, null, event -> {
+            }, () -> cancelled.set(true)
+        );
+        for (int i = 0; i < 3; i++) {
+            publish(UUID.randomUUID(), OrderType.TAKEOUT, OrderStatus.WAITING);
+        }
+        assertAll(
+            () -> assertThat(subscription.isCancelled()).isTrue(),
+            () -> assertThat(cancelled).isTrue(),
+            () -> assertThat(orderEventStream.subscriptionCount()).isZero()
+        );
+    }
+
+    private void publish(final UUID orderId, final OrderType type, final OrderStatus status) {
+        orderEventStream.orderStatusChanged(new OrderStatusChangedEvent(orderId, type, status, LocalDateTime.now()));
+    }
+}
@@ -1,13 +1,19 @@
 package kitchenpos.eatinorders.application;
 
+import kitchenpos.common.domain.Money;
 import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderIdempotencyKeyRepository;
 import kitchenpos.eatinorders.domain.OrderLineItem;
 import kitchenpos.eatinorders.domain.OrderRepository;
+import kitchenpos.eatinorders.domain.OrderSearchCondition;
 import kitchenpos.eatinorders.domain.OrderStatus;
 import kitchenpos.eatinorders.domain.OrderTable;
 import kitchenpos.eatinorders.domain.OrderTableRepository;
+import kitchenpos.eatinorders.domain.OrderTransition;
 import kitchenpos.eatinorders.domain.OrderType;
 import kitchenpos.menus.application.InMemoryMenuRepository;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuPriceView;
 import kitchenpos.menus.domain.MenuRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,11 +26,16 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
 
 import static kitchenpos.Fixtures.INVALID_ID;
@@ -41,6 +52,7 @@ class OrderServiceTest {
     private OrderRepository orderRepository;
     private MenuRepository menuRepository;
     private OrderTableRepository orderTableRepository;
+    private OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
     private FakeKitchenridersClient kitchenridersClient;
     private OrderService orderService;
 
@@ -49,8 +61,17 @@ class OrderServiceTest {
         orderRepository = new InMemoryOrderRepository();
         menuRepository = new InMemoryMenuRepository();
         orderTableRepository = new InMemoryOrderTableRepository();
+        orderIdempotencyKeyRepository = new InMemoryOrderIdempotencyKeyRepository();
         kitchenridersClient = new FakeKitchenridersClient();
-        orderService = new OrderService(orderRepository, menuRepository, orderTableRepository, kitchenridersClient);
+        orderService = new OrderService(
+            orderRepository,
+            menuRepository,
+            orderTableRepository,
+            orderIdempotencyKeyRepository,
+            kitchenridersClient,
+            event -> {
+            }
+        );
     }
 
     @DisplayName("1개 이상의 등록된 메뉴로 배달 주문을 등록할 수 있다.")
@@ -88,6 +109,32 @@ class OrderServiceTest {
         );
     }
 
+    @DisplayName("주문 항목이 많아도 메뉴는 한 번에 조회한다.")
+    @Test
+    void createWithManyOrderLineItems() {
+        final CountingMenuRepository countingMenuRepository = new CountingMenuRepository();
+        orderService = new OrderService(
+            orderRepository,
+            countingMenuRepository,
+            orderTableRepository,
+            orderIdempotencyKeyRepository,
+            kitchenridersClient,
+            event -> {
+            }
+        );
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            final UUID menuId = countingMenuRepository.save(menu(19_000L, true, menuProduct())).getId();
+            orderLineItems.add(createOrderLineItemRequest(menuId, 19_000L, 1L));
+        }
+        final Order actual = orderService.create(createOrderRequest(OrderType.TAKEOUT, orderLineItems));
+        assertAll(
+            () -> assertThat(actual.getOrderLineItems()).hasSize(20),
+            () -> assertThat(actual.getOrderLineItems().get(0).getMenu()).isNotNull(),
+            () -> assertThat(countingMenuRepository.queryCount).isEqualTo(1)
+        );
+    }
+
     @DisplayName("1개 이상의 등록된 메뉴로 매장 주문을 등록할 수 있다.")
     @Test
     void createEatInOrder() {
@@ -340,6 +387,101 @@ class OrderServiceTest {
         );
     }
 
+    @DisplayName("여러 주문의 상태를 한 번에 변경하고 주문별 결과를 알 수 있다.")
+    @Test
+    void transition() {
+        final OrderTable orderTable = orderTableRepository.save(orderTable(true, 4));
+        final UUID waitingOrderId = orderRepository.save(order(OrderStatus.WAITING, orderTable)).getId();
+        final UUID servedOrderId = orderRepository.save(order(OrderStatus.SERVED, orderTable)).getId();
+        final List<OrderTransitionResult> actual = orderService.transition(
+            OrderTransition.ACCEPT,
+            Arrays.asList(waitingOrderId, servedOrderId, INVALID_ID)
+        );
+        assertAll(
+            () -> assertThat(actual).containsExactly(
+                new OrderTransitionResult(waitingOrderId, true, OrderStatus.ACCEPTED, null),
+                new OrderTransitionResult(servedOrderId, false, OrderStatus.SERVED, "IllegalStateException"),
+                new OrderTransitionResult(INVALID_ID, false, null, "NoSuchElementException")
+            ),
+            () -> assertThat(orderRepository.findById(waitingOrderId).get().getStatus()).isEqualTo(OrderStatus.ACCEPTED),
+            () -> assertThat(orderRepository.findById(servedOrderId).get().getStatus()).isEqualTo(OrderStatus.SERVED)
+        );
+    }
+
+    @DisplayName("같은 주문의 상태를 두 번 변경하면 한 번만 변경된다.")
+    @Test
+    void transitionSameOrderTwice() {
+        final UUID orderId = orderRepository.save(order(OrderStatus.WAITING, "서울시 송파구 위례성대로 2")).getId();
+        final List<OrderTransitionResult> actual = orderService.transition(
+            OrderTransition.ACCEPT,
+            Arrays.asList(orderId, orderId)
+        );
+        assertAll(
+            () -> assertThat(actual).containsExactly(
+                new OrderTransitionResult(orderId, true, OrderStatus.ACCEPTED, null),
+                new OrderTransitionResult(orderId, false, OrderStatus.ACCEPTED, "IllegalStateException")
+            ),
+            () -> assertThat(kitchenridersClient.getOrderId()).isEqualTo(orderId)
+        );
+    }
+
+    @DisplayName("다른 요청이 먼저 변경한 주문은 변경한 것으로 보지 않는다.")
+    @Test
+    void transitionChangedConcurrently() {
+        orderRepository = new InMemoryOrderRepository() {
+            @Override
+            public int updateStatus(
+                final UUID id,
+                final Collection<OrderType> types,
+                final OrderStatus expected,
+                final OrderStatus status
+            ) {
+                super.updateStatus(id, types, expected, status);
+                return 0;
+            }
+        };
+        orderService = new OrderService(
+            orderRepository,
+            menuRepository,
+            orderTableRepository,
+            orderIdempotencyKeyRepository,
+            kitchenridersClient,
+            event -> {
+            }
+        );
+        final UUID orderId = orderRepository.save(order(OrderStatus.WAITING, "서울시 송파구 위례성대로 2")).getId();
+        final List<OrderTransitionResult> actual = orderService.transition(OrderTransition.ACCEPT, List.of(orderId));
+        assertAll(
+            () -> assertThat(actual).containsExactly(
+                new OrderTransitionResult(orderId, false, OrderStatus.ACCEPTED, "IllegalStateException")
+            ),
+            () -> assertThat(kitchenridersClient.getOrderId()).isNull()
+        );
+    }
+
+    @DisplayName("한 주문 테이블의 매장 주문을 한 번에 완료하면 빈 테이블로 설정한다.")
+    @Test
+    void transitionCompleteEatInOrders() {
+        final OrderTable orderTable = orderTableRepository.save(orderTable(true, 4));
+        final List<UUID> orderIds = Arrays.asList(
+            orderRepository.save(order(OrderStatus.SERVED, orderTable)).getId(),
+            orderRepository.save(order(OrderStatus.SERVED, orderTable)).getId()
+        );
+        final List<OrderTransitionResult> actual = orderService.transition(OrderTransition.COMPLETE, orderIds);
+        assertAll(
+            () -> assertThat(actual).allMatch(OrderTransitionResult::succeeded),
+            () -> assertThat(orderTableRepository.findById(orderTable.getId()).get().isOccupied()).isFalse()
+        );
+    }
+
+    @DisplayName("변경할 주문이 없으면 상태를 한 번에 변경할 수 없다.")
+    @NullAndEmptySource
+    @ParameterizedTest
+    void transition(final List<UUID> orderIds) {
+        assertThatThrownBy(() -> orderService.transition(OrderTransition.SERVE, orderIds))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @DisplayName("주문의 목록을 조회할 수 있다.")
     @Test
     void findAll() {
@@ -350,6 +492,119 @@ class OrderServiceTest {
         assertThat(actual).hasSize(2);
     }
 
+    @DisplayName("주문 상태와 유형, 주문 테이블, 주문 시각으로 주문을 조회할 수 있다.")
+    @Test
+    void findAllByCondition() {
+        final OrderTable orderTable = orderTableRepository.save(orderTable(true, 4));
+        final Order eatInOrder = orderRepository.save(order(OrderStatus.SERVED, orderTable));
+        final Order deliveryOrder = orderRepository.save(order(OrderStatus.WAITING, "서울시 송파구 위례성대로 2"));
+        final Order takeoutOrder = orderRepository.save(order(OrderStatus.WAITING));
+        takeoutOrder.setOrderDateTime(LocalDateTime.of(2020, 1, 1, 13, 0));
+        final LocalDateTime from = LocalDateTime.of(2020, 1, 1, 12, 30);
+        assertAll(
+            () -> assertThat(orderService.findAll(condition(OrderStatus.WAITING, null, null, null, null), null, 10))
+                .containsExactlyInAnyOrder(deliveryOrder, takeoutOrder),
+            () -> assertThat(orderService.findAll(condition(OrderStatus.WAITING, OrderType.DELIVERY, null, null, null), null, 10))
+                .containsExactly(deliveryOrder),
+            () -> assertThat(orderService.findAll(condition(null, null, orderTable.getId(), null, null), null, 10))
+                .containsExactly(eatInOrder),
+            () -> assertThat(orderService.findAll(condition(null, null, null, from, null), null, 10))
+                .containsExactly(takeoutOrder),
+            () -> assertThat(orderService.findAll(condition(null, null, null, null, from), null, 1)).hasSize(1)
+        );
+    }
+
+    @DisplayName("여러 주문 상태의 주문을 한 번에 조회할 수 있다.")
+    @Test
+    void findAllByStatuses() {
+        final Order waitingOrder = orderRepository.save(order(OrderStatus.WAITING));
+        final Order acceptedOrder = orderRepository.save(order(OrderStatus.ACCEPTED));
+        orderRepository.save(order(OrderStatus.COMPLETED));
+        final OrderSearchCondition condition = new OrderSearchCondition(
+            Set.of(OrderStatus.WAITING, OrderStatus.ACCEPTED), null, null, null, null
+        );
+        assertThat(orderService.findAll(condition, null, 10)).containsExactlyInAnyOrder(waitingOrder, acceptedOrder);
+    }
+
+    @DisplayName("조건에 맞는 주문을 주문 시각과 식별자 순서로 나누어 조회할 수 있다.")
+    @Test
+    void findAllByConditionAndCursor() {
+        final LocalDateTime orderDateTime = LocalDateTime.of(2020, 1, 1, 12, 0);
+        final Order late = order(OrderStatus.WAITING);
+        late.setOrderDateTime(orderDateTime.plusMinutes(1));
+        final Order low = order(OrderStatus.WAITING);
+        low.setId(new UUID(0x0000000000000001L, 1L));
+        low.setOrderDateTime(orderDateTime);
+        final Order high = order(OrderStatus.WAITING);
+        high.setId(new UUID(0xFFFFFFFFFFFFFFFFL, 1L));
+        high.setOrderDateTime(orderDateTime);
+        orderRepository.save(late);
+        orderRepository.save(high);
+        orderRepository.save(low);
+        final OrderSearchCondition condition = condition(OrderStatus.WAITING, null, null, null, null);
+        final List<Order> first = orderService.findAll(condition, null, 2);
+        final List<Order> second = orderService.findAll(condition, first.get(1).getId(), 2);
+        assertAll(
+            () -> assertThat(first).extracting(Order::getId).containsExactly(low.getId(), high.getId()),
+            () -> assertThat(second).extracting(Order::getId).containsExactly(late.getId())
+        );
+    }
+
+    @DisplayName("조회 시작 시각이 끝 시각보다 늦으면 주문을 조회할 수 없다.")
+    @Test
+    void findAllByInvalidDateTimeRange() {
+        final LocalDateTime from = LocalDateTime.of(2020, 1, 1, 13, 0);
+        final LocalDateTime to = LocalDateTime.of(2020, 1, 1, 12, 0);
+        assertThatThrownBy(() -> orderService.findAll(condition(null, null, null, from, to), null, 10))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("주문의 목록을 나누어 조회할 수 있다.")
+    @Test
+    void findAllByCursor() {
+        final OrderTable orderTable = orderTableRepository.save(orderTable(true, 4));
+        orderRepository.save(order(OrderStatus.SERVED, orderTable));
+        orderRepository.save(order(OrderStatus.DELIVERED, "서울시 송파구 위례성대로 2"));
+        orderRepository.save(order(OrderStatus.WAITING));
+        final List<Order> first = orderService.findAll(null, 2);
+        final List<Order> second = orderService.findAll(first.get(1).getId(), 2);
+        assertAll(
+            () -> assertThat(first).hasSize(2),
+            () -> assertThat(second).hasSize(1),
+            () -> assertThat(second).doesNotContainAnyElementsOf(first)
+        );
+    }
+
+    @DisplayName("주문의 목록은 식별자의 부호 없는 바이트 순서로 나누어 조회한다.")
+    @Test
+    void findAllByCursorInUnsignedOrder() {
+        final Order low = order(OrderStatus.WAITING);
+        low.setId(new UUID(0x0000000000000001L, 1L));
+        final Order high = order(OrderStatus.WAITING);
+        high.setId(new UUID(0x8000000000000000L, 1L));
+        final Order highest = order(OrderStatus.WAITING);
+        highest.setId(new UUID(0xFFFFFFFFFFFFFFFFL, 1L));
+        orderRepository.save(highest);
+        orderRepository.save(high);
+        orderRepository.save(low);
+        final List<Order> first = orderService.findAll(null, 2);
+        final List<Order> second = orderService.findAll(first.get(1).getId(), 2);
+        assertAll(
+            () -> assertThat(first).extracting(Order::getId).containsExactly(low.getId(), high.getId()),
+            () -> assertThat(second).extracting(Order::getId).containsExactly(highest.getId())
+        );
+    }
+
+    private OrderSearchCondition condition(
+        final OrderStatus status,
+        final OrderType type,
+        final UUID orderTableId,
+        final LocalDateTime from,
+        final LocalDateTime to
+    ) {
+        return new OrderSearchCondition(Objects.isNull(status) ? Set.of() : Set.of(status), type, orderTableId, from, to);
+    }
+
     private Order createOrderRequest(
         final OrderType type,
         final String deliveryAddress,
@@ -389,8 +644,30 @@ class OrderServiceTest {
         final OrderLineItem orderLineItem = new OrderLineItem();
         orderLineItem.setSeq(new Random().nextLong());
         orderLineItem.setMenuId(menuId);
-        orderLineItem.setPrice(BigDecimal.valueOf(price));
+        orderLineItem.setPrice(Money.won(price));
         orderLineItem.setQuantity(quantity);
         return orderLineItem;
     }
+
+    private static class CountingMenuRepository extends InMemoryMenuRepository {
+        private int queryCount;
+
+        @Override
+        public Optional<Menu> findById(final UUID id) {
+            queryCount++;
+            return super.findById(id);
+        }
+
+        @Override
+        public List<Menu> findAllByIdIn(final List<UUID> ids) {
+            queryCount++;
+            return super.findAllByIdIn(ids);
+        }
+
+        @Override
+        public List<MenuPriceView> findAllPriceViewsByIdIn(final List<UUID> ids) {
+            queryCount++;
+            return super.findAllPriceViewsByIdIn(ids);
+        }
+    }
 }
@@ -1,9 +1,15 @@
 package kitchenpos.menus.application;
 
+import kitchenpos.UnsignedUuidComparator;
+import kitchenpos.menus.domain.Menu;
 import kitchenpos.menus.domain.MenuGroup;
 import kitchenpos.menus.domain.MenuGroupRepository;
+import kitchenpos.menus.domain.MenuGroupSummary;
+import kitchenpos.menus.domain.MenuRepository;
+import org.springframework.data.domain.Limit;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -12,6 +18,15 @@ import java.util.UUID;
 
 public class InMemoryMenuGroupRepository implements MenuGroupRepository {
     private final Map<UUID, MenuGroup> menuGroups = new HashMap<>();
+    private final MenuRepository menuRepository;
+
+    public InMemoryMenuGroupRepository() {
+        this(new InMemoryMenuRepository());
+    }
+
+    public InMemoryMenuGroupRepository(final MenuRepository menuRepository) {
+        this.menuRepository = menuRepository;
+    }
 
     @Override
     public MenuGroup save(final MenuGroup menuGroup) {
@@ -28,4 +43,36 @@ public class InMemoryMenuGroupRepository implements MenuGroupRepository {
     public List<MenuGroup> findAll() {
         return new ArrayList<>(menuGroups.values());
     }
+
+    @Override
+    public List<MenuGroup> findAllByIdGreaterThanOrderByIdAsc(final UUID id, final Limit limit) {
+        return menuGroups.values()
+            .stream()
+            .filter(menuGroup -> UnsignedUuidComparator.INSTANCE.compare(menuGroup.getId(), id) > 0)
+            .sorted(Comparator.comparing(MenuGroup::getId, UnsignedUuidComparator.INSTANCE))
+            .limit(limit.isLimited() ? limit.max() : Long.MAX_VALUE)
+            .toList();
+    }
+
+    @Override
+    public List<MenuGroupSummary> findAllSummaries() {
+        final List<Menu> menus = menuRepository.findAll();
+        return menuGroups.values()
+            .stream()
+            .sorted(Comparator.comparing(MenuGroup::getName))
+            .map(menuGroup -> {
+                final List<Menu> groupMenus = menus.stream()
+                    .filter(menu -> menu.getMenuGroup().getId().equals(menuGroup.getId()))
+                    .toList();
+                return new MenuGroupSummary(
+                    menuGroup.getId(),
+                    menuGroup.getName(),
+                    groupMenus.size(),
+                    groupMenus.stream().filter(Menu::isDisplayed).count(),
+                    groupMenus.stream().map(Menu::getPrice).min(Comparator.naturalOrder()).orElse(null),
+                    groupMenus.stream().map(Menu::getPrice).max(Comparator.naturalOrder()).orElse(null)
+                );
+            })
+            .toList();
+    }
 }
@@ -1,12 +1,18 @@
 package kitchenpos.menus.application;
 
+import kitchenpos.UnsignedUuidComparator;
+import kitchenpos.common.domain.Money;
 import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuPriceView;
 import kitchenpos.menus.domain.MenuRepository;
+import org.springframework.data.domain.Limit;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -29,6 +35,16 @@ public class InMemoryMenuRepository implements MenuRepository {
         return new ArrayList<>(menus.values());
     }
 
+    @Override
+    public List<Menu> findAllByIdGreaterThanOrderByIdAsc(final UUID id, final Limit limit) {
+        return menus.values()
+            .stream()
+            .filter(menu -> UnsignedUuidComparator.INSTANCE.compare(menu.getId(), id) > 0)
+            .sorted(Comparator.comparing(Menu::getId, UnsignedUuidComparator.INSTANCE))
+            .limit(limit.isLimited() ? limit.max() : Long.MAX_VALUE)
+            .toList();
+    }
+
     @Override
     public List<Menu> findAllByIdIn(final List<UUID> ids) {
         return menus.values()
@@ -38,10 +54,93 @@ public class InMemoryMenuRepository implements MenuRepository {
     }
 
     @Override
-    public List<Menu> findAllByProductId(final UUID productId) {
+    public List<MenuPriceView> findAllPriceViewsByIdIn(final List<UUID> ids) {
+        return menus.values()
+            .stream()
+            .filter(menu -> ids.contains(menu.getId()))
+            .map(menu -> new MenuPriceView(menu.getId(), menu.getPrice(), menu.isDisplayed()))
+            .toList();
+    }
+
+    @Override
+    public Menu getReferenceById(final UUID id) {
+        return Optional.ofNullable(menus.get(id))
+            .orElseThrow(NoSuchElementException::new);
+    }
+
+    @Override
+    public List<Menu> findAllByDisplayedTrue() {
+        return menus.values()
+            .stream()
+            .filter(Menu::isDisplayed)
+            .toList();
+    }
+
+    @Override
+    public int recalculateProductPriceSum(final List<UUID> productIds) {
+        int count = 0;
+        for (final Menu menu : findAllByProductIdIn(productIds)) {
+            menu.setProductPriceSum(
+                menu.getMenuProducts()
+                    .stream()
+                    .map(menuProduct -> menuProduct.getProduct().getPrice().times(menuProduct.getQuantity()))
+                    .reduce(Money.ZERO, Money::plus)
+            );
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public int hideAllPricedOverProductPriceSum(final List<UUID> productIds) {
+        int count = 0;
+        for (final Menu menu : findAllByProductIdIn(productIds)) {
+            if (menu.isDisplayed() && menu.isPricedOverProductPriceSum()) {
+                menu.setDisplayed(false);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long countPricedOverProductPriceSumByMenuGroupId(final UUID menuGroupId) {
+        return menus.values()
+            .stream()
+            .filter(menu -> menu.getMenuGroup().getId().equals(menuGroupId))
+            .filter(Menu::isPricedOverProductPriceSum)
+            .count();
+    }
+
+    @Override
+    public List<UUID> findAllProductIdsByMenuGroupId(final UUID menuGroupId) {
+        return menus.values()
+            .stream()
+            .filter(menu -> menu.getMenuGroup().getId().equals(menuGroupId))
+            .flatMap(menu -> menu.getMenuProducts().stream())
+            .map(menuProduct -> menuProduct.getProduct().getId())
+            .distinct()
+            .toList();
+    }
+
+    @Override
+    public int updateDisplayedByMenuGroupId(final UUID menuGroupId, final boolean displayed) {
+        int count = 0;
+        for (final Menu menu : menus.values()) {
+            if (menu.getMenuGroup().getId().equals(menuGroupId) && menu.isDisplayed() != displayed) {
+                menu.setDisplayed(displayed);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private List<Menu> findAllByProductIdIn(final List<UUID> productIds) {
         return menus.values()
             .stream()
-            .filter(menu -> menu.getMenuProducts().stream().anyMatch(menuProduct -> menuProduct.getProduct().getId().equals(productId)))
+            .filter(menu -> menu.getMenuProducts()
+                .stream()
+                .anyMatch(menuProduct -> productIds.contains(menuProduct.getProduct().getId())))
             .toList();
     }
 }
@@ -1,7 +1,11 @@
 package kitchenpos.menus.application;
 
+import kitchenpos.common.domain.Money;
+import kitchenpos.menus.domain.Menu;
 import kitchenpos.menus.domain.MenuGroup;
 import kitchenpos.menus.domain.MenuGroupRepository;
+import kitchenpos.menus.domain.MenuGroupSummary;
+import kitchenpos.menus.domain.MenuRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,19 +14,24 @@ import org.junit.jupiter.params.provider.NullAndEmptySource;
 
 import java.util.List;
 
+import static kitchenpos.Fixtures.menu;
 import static kitchenpos.Fixtures.menuGroup;
+import static kitchenpos.Fixtures.menuProduct;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 class MenuGroupServiceTest {
+    private MenuRepository menuRepository;
     private MenuGroupRepository menuGroupRepository;
     private MenuGroupService menuGroupService;
 
     @BeforeEach
     void setUp() {
-        menuGroupRepository = new InMemoryMenuGroupRepository();
-        menuGroupService = new MenuGroupService(menuGroupRepository);
+        menuRepository = new InMemoryMenuRepository();
+        menuGroupRepository = new InMemoryMenuGroupRepository(menuRepository);
+        menuGroupService = new MenuGroupService(menuGroupRepository, event -> {
+        });
     }
 
     @DisplayName("메뉴 그룹을 등록할 수 있다.")
@@ -54,6 +63,26 @@ class MenuGroupServiceTest {
         assertThat(actual).hasSize(1);
     }
 
+    @DisplayName("메뉴 그룹별 메뉴 수와 노출된 메뉴 수, 가격 범위를 조회할 수 있다.")
+    @Test
+    void findAllSummaries() {
+        final MenuGroup menuGroup = menuGroupRepository.save(menuGroup("두마리메뉴"));
+        final MenuGroup emptyMenuGroup = menuGroupRepository.save(menuGroup("한마리메뉴"));
+        menuRepository.save(menuOf(menuGroup, 19_000L, true));
+        menuRepository.save(menuOf(menuGroup, 17_000L, false));
+        final List<MenuGroupSummary> actual = menuGroupService.findAllSummaries();
+        assertThat(actual).containsExactly(
+            new MenuGroupSummary(menuGroup.getId(), "두마리메뉴", 2L, 1L, Money.won(17_000L), Money.won(19_000L)),
+            new MenuGroupSummary(emptyMenuGroup.getId(), "한마리메뉴", 0L, 0L, null, null)
+        );
+    }
+
+    private Menu menuOf(final MenuGroup menuGroup, final long price, final boolean displayed) {
+        final Menu menu = menu(price, displayed, menuProduct());
+        menu.setMenuGroup(menuGroup);
+        return menu;
+    }
+
     private MenuGroup createMenuGroupRequest(final String name) {
         final MenuGroup menuGroup = new MenuGroup();
         menuGroup.setName(name);
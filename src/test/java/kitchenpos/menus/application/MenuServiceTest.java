@@ -1,12 +1,16 @@
 package kitchenpos.menus.application;
 
+import kitchenpos.common.domain.Money;
 import kitchenpos.menus.domain.Menu;
 import kitchenpos.menus.domain.MenuGroupRepository;
 import kitchenpos.menus.domain.MenuProduct;
 import kitchenpos.menus.domain.MenuRepository;
 import kitchenpos.products.application.FakePurgomalumClient;
+import kitchenpos.products.application.InMemoryProductPriceChangeRepository;
 import kitchenpos.products.application.InMemoryProductRepository;
 import kitchenpos.products.domain.Product;
+import kitchenpos.products.domain.ProductPriceChange;
+import kitchenpos.products.domain.ProductPriceChangeRepository;
 import kitchenpos.products.domain.ProductRepository;
 import kitchenpos.products.infra.PurgomalumClient;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,10 +23,14 @@ import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 import static kitchenpos.Fixtures.INVALID_ID;
@@ -38,6 +46,7 @@ class MenuServiceTest {
     private MenuRepository menuRepository;
     private MenuGroupRepository menuGroupRepository;
     private ProductRepository productRepository;
+    private ProductPriceChangeRepository productPriceChangeRepository;
     private PurgomalumClient purgomalumClient;
     private MenuService menuService;
     private UUID menuGroupId;
@@ -48,8 +57,10 @@ class MenuServiceTest {
         menuRepository = new InMemoryMenuRepository();
         menuGroupRepository = new InMemoryMenuGroupRepository();
         productRepository = new InMemoryProductRepository();
+        productPriceChangeRepository = new InMemoryProductPriceChangeRepository();
         purgomalumClient = new FakePurgomalumClient();
-        menuService = new MenuService(menuRepository, menuGroupRepository, productRepository, purgomalumClient);
+        menuService = new MenuService(menuRepository, menuGroupRepository, productRepository, productPriceChangeRepository, purgomalumClient, event -> {
+        }, false);
         menuGroupId = menuGroupRepository.save(menuGroup()).getId();
         product = productRepository.save(product("후라이드", 16_000L));
     }
@@ -68,7 +79,8 @@ class MenuServiceTest {
             () -> assertThat(actual.getPrice()).isEqualTo(expected.getPrice()),
             () -> assertThat(actual.getMenuGroup().getId()).isEqualTo(expected.getMenuGroupId()),
             () -> assertThat(actual.isDisplayed()).isEqualTo(expected.isDisplayed()),
-            () -> assertThat(actual.getMenuProducts()).hasSize(1)
+            () -> assertThat(actual.getMenuProducts()).hasSize(1),
+            () -> assertThat(actual.getProductPriceSum()).isEqualTo(Money.won(32_000L))
         );
     }
 
@@ -144,6 +156,49 @@ class MenuServiceTest {
             .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @DisplayName("메뉴 이름 검사를 동시에 실행해도 메뉴를 등록할 수 있다.")
+    @Test
+    void createWithConcurrentNameCheck() {
+        menuService = new MenuService(menuRepository, menuGroupRepository, productRepository, productPriceChangeRepository, purgomalumClient, event -> {
+        }, true);
+        final Menu expected = createMenuRequest(
+            "후라이드+후라이드", 19_000L, menuGroupId, true, createMenuProductRequest(product.getId(), 2L)
+        );
+        final Menu actual = menuService.create(expected);
+        assertThat(actual.getName()).isEqualTo(expected.getName());
+    }
+
+    @DisplayName("메뉴 이름 검사를 동시에 실행해도 이름이 올바르지 않으면 등록할 수 없다.")
+    @Test
+    void createProfaneNameWithConcurrentNameCheck() {
+        menuService = new MenuService(menuRepository, menuGroupRepository, productRepository, productPriceChangeRepository, purgomalumClient, event -> {
+        }, true);
+        final Menu expected = createMenuRequest(
+            "비속어", 19_000L, menuGroupId, true, createMenuProductRequest(product.getId(), 2L)
+        );
+        assertThatThrownBy(() -> menuService.create(expected))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("구성 상품이 많아도 상품은 한 번에 조회한다.")
+    @Test
+    void createWithManyMenuProducts() {
+        final CountingProductRepository countingProductRepository = new CountingProductRepository();
+        menuService = new MenuService(menuRepository, menuGroupRepository, countingProductRepository, productPriceChangeRepository, purgomalumClient, event -> {
+        }, false);
+        final List<MenuProduct> menuProducts = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            final Product product = countingProductRepository.save(product("후라이드" + i, 1_000L));
+            menuProducts.add(createMenuProductRequest(product.getId(), 1L));
+        }
+        final Menu actual = menuService.create(createMenuRequest("세트", 20_000L, menuGroupId, true, menuProducts));
+        assertAll(
+            () -> assertThat(actual.getMenuProducts()).hasSize(20),
+            () -> assertThat(actual.getProductPriceSum()).isEqualTo(Money.won(20_000L)),
+            () -> assertThat(countingProductRepository.queryCount).isEqualTo(1)
+        );
+    }
+
     @DisplayName("메뉴의 가격을 변경할 수 있다.")
     @Test
     void changePrice() {
@@ -189,6 +244,15 @@ class MenuServiceTest {
             .isInstanceOf(IllegalStateException.class);
     }
 
+    @DisplayName("메뉴에 속한 상품 금액의 합이 아직 갱신되지 않았으면 노출할 수 없다.")
+    @Test
+    void displayWithStaleProductPriceSum() {
+        final UUID menuId = menuRepository.save(menu(19_000L, false, menuProduct(product, 2L))).getId();
+        productPriceChangeRepository.save(new ProductPriceChange(product.getId(), LocalDateTime.now()));
+        assertThatThrownBy(() -> menuService.display(menuId))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
     @DisplayName("메뉴를 숨길 수 있다.")
     @Test
     void hide() {
@@ -197,6 +261,59 @@ class MenuServiceTest {
         assertThat(actual.isDisplayed()).isFalse();
     }
 
+    @DisplayName("메뉴 그룹에 속한 메뉴를 한 번에 노출할 수 있다.")
+    @Test
+    void displayAll() {
+        final Menu menu = menuRepository.save(menuOf(menuGroupId, 19_000L, false));
+        final Menu displayed = menuRepository.save(menuOf(menuGroupId, 19_000L, true));
+        final Menu otherGroupMenu = menuRepository.save(menu(19_000L, false, menuProduct(product, 2L)));
+        final MenuGroupDisplayResult actual = menuService.displayAll(menuGroupId);
+        assertAll(
+            () -> assertThat(actual.changedMenuCount()).isEqualTo(1),
+            () -> assertThat(menu.isDisplayed()).isTrue(),
+            () -> assertThat(displayed.isDisplayed()).isTrue(),
+            () -> assertThat(otherGroupMenu.isDisplayed()).isFalse()
+        );
+    }
+
+    @DisplayName("메뉴 그룹에 상품 금액의 합보다 비싼 메뉴가 있으면 한 번에 노출할 수 없다.")
+    @Test
+    void displayAllWithExpensiveMenu() {
+        final Menu menu = menuRepository.save(menuOf(menuGroupId, 19_000L, false));
+        menuRepository.save(menuOf(menuGroupId, 33_000L, false));
+        assertThatThrownBy(() -> menuService.displayAll(menuGroupId))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(menu.isDisplayed()).isFalse();
+    }
+
+    @DisplayName("메뉴 그룹에 속한 상품 금액의 합이 아직 갱신되지 않았으면 한 번에 노출할 수 없다.")
+    @Test
+    void displayAllWithStaleProductPriceSum() {
+        final Menu menu = menuRepository.save(menuOf(menuGroupId, 19_000L, false));
+        productPriceChangeRepository.save(new ProductPriceChange(product.getId(), LocalDateTime.now()));
+        assertThatThrownBy(() -> menuService.displayAll(menuGroupId))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(menu.isDisplayed()).isFalse();
+    }
+
+    @DisplayName("메뉴 그룹에 속한 메뉴를 한 번에 숨길 수 있다.")
+    @Test
+    void hideAll() {
+        final Menu menu = menuRepository.save(menuOf(menuGroupId, 19_000L, true));
+        final MenuGroupDisplayResult actual = menuService.hideAll(menuGroupId);
+        assertAll(
+            () -> assertThat(actual.changedMenuCount()).isEqualTo(1),
+            () -> assertThat(menu.isDisplayed()).isFalse()
+        );
+    }
+
+    @DisplayName("등록되지 않은 메뉴 그룹의 메뉴는 숨길 수 없다.")
+    @Test
+    void hideAllWithoutMenuGroup() {
+        assertThatThrownBy(() -> menuService.hideAll(INVALID_ID))
+            .isInstanceOf(NoSuchElementException.class);
+    }
+
     @DisplayName("메뉴의 목록을 조회할 수 있다.")
     @Test
     void findAll() {
@@ -205,6 +322,12 @@ class MenuServiceTest {
         assertThat(actual).hasSize(1);
     }
 
+    private Menu menuOf(final UUID menuGroupId, final long price, final boolean displayed) {
+        final Menu menu = menu(price, displayed, menuProduct(product, 2L));
+        menu.setMenuGroup(menuGroupRepository.findById(menuGroupId).orElseThrow());
+        return menu;
+    }
+
     private Menu createMenuRequest(
         final String name,
         final long price,
@@ -212,7 +335,7 @@ class MenuServiceTest {
         final boolean displayed,
         final MenuProduct... menuProducts
     ) {
-        return createMenuRequest(name, BigDecimal.valueOf(price), menuGroupId, displayed, menuProducts);
+        return createMenuRequest(name, Money.won(price), menuGroupId, displayed, Arrays.asList(menuProducts));
     }
 
     private Menu createMenuRequest(
@@ -222,7 +345,9 @@ class MenuServiceTest {
         final boolean displayed,
         final MenuProduct... menuProducts
     ) {
-        return createMenuRequest(name, price, menuGroupId, displayed, Arrays.asList(menuProducts));
+        return createMenuRequest(
+            name, Objects.isNull(price) ? null : Money.from(price), menuGroupId, displayed, Arrays.asList(menuProducts)
+        );
     }
 
     private Menu createMenuRequest(
@@ -232,12 +357,12 @@ class MenuServiceTest {
         final boolean displayed,
         final List<MenuProduct> menuProducts
     ) {
-        return createMenuRequest(name, BigDecimal.valueOf(price), menuGroupId, displayed, menuProducts);
+        return createMenuRequest(name, Money.won(price), menuGroupId, displayed, menuProducts);
     }
 
     private Menu createMenuRequest(
         final String name,
-        final BigDecimal price,
+        final Money price,
         final UUID menuGroupId,
         final boolean displayed,
         final List<MenuProduct> menuProducts
@@ -259,12 +384,32 @@ class MenuServiceTest {
     }
 
     private Menu changePriceRequest(final long price) {
-        return changePriceRequest(BigDecimal.valueOf(price));
+        return changePriceRequest(Money.won(price));
     }
 
     private Menu changePriceRequest(final BigDecimal price) {
+        return changePriceRequest(Objects.isNull(price) ? null : Money.from(price));
+    }
+
+    private Menu changePriceRequest(final Money price) {
         final Menu menu = new Menu();
         menu.setPrice(price);
         return menu;
     }
+
+    private static class CountingProductRepository extends InMemoryProductRepository {
+        private int queryCount;
+
+        @Override
+        public Optional<Product> findById(final UUID id) {
+            queryCount++;
+            return super.findById(id);
+        }
+
+        @Override
+        public List<Product> findAllByIdIn(final List<UUID> ids) {
+            queryCount++;
+            return super.findAllByIdIn(ids);
+        }
+    }
 }
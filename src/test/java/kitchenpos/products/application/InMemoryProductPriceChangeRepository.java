@@ -0,0 +1,47 @@
+package kitchenpos.products.application;
+
+import kitchenpos.products.domain.ProductPriceChange;
+import kitchenpos.products.domain.ProductPriceChangeRepository;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public class InMemoryProductPriceChangeRepository implements ProductPriceChangeRepository {
+    private final List<ProductPriceChange> productPriceChanges = new ArrayList<>();
+    private long sequence;
+
+    @Override
+    public ProductPriceChange save(final ProductPriceChange productPriceChange) {
+        productPriceChange.setSeq(++sequence);
+        productPriceChanges.add(productPriceChange);
+        return productPriceChange;
+    }
+
+    @Override
+    public List<ProductPriceChange> findAllByOrderBySeqAsc(final Limit limit) {
+        return productPriceChanges.stream()
+            .limit(limit.isLimited() ? limit.max() : Long.MAX_VALUE)
+            .toList();
+    }
+
+    @Override
+    public Optional<ProductPriceChange> findFirstByOrderBySeqAsc() {
+        return productPriceChanges.stream()
+            .findFirst();
+    }
+
+    @Override
+    public boolean existsByProductIdIn(final Collection<UUID> productIds) {
+        return productPriceChanges.stream()
+            .anyMatch(productPriceChange -> productIds.contains(productPriceChange.getProductId()));
+    }
+
+    @Override
+    public void deleteAllInBatch(final Iterable<ProductPriceChange> productPriceChanges) {
+        productPriceChanges.forEach(this.productPriceChanges::remove);
+    }
+}
@@ -1,9 +1,12 @@
 package kitchenpos.products.application;
 
+import kitchenpos.UnsignedUuidComparator;
 import kitchenpos.products.domain.Product;
 import kitchenpos.products.domain.ProductRepository;
+import org.springframework.data.domain.Limit;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +32,16 @@ public class InMemoryProductRepository implements ProductRepository {
         return new ArrayList<>(products.values());
     }
 
+    @Override
+    public List<Product> findAllByIdGreaterThanOrderByIdAsc(final UUID id, final Limit limit) {
+        return products.values()
+            .stream()
+            .filter(product -> UnsignedUuidComparator.INSTANCE.compare(product.getId(), id) > 0)
+            .sorted(Comparator.comparing(Product::getId, UnsignedUuidComparator.INSTANCE))
+            .limit(limit.isLimited() ? limit.max() : Long.MAX_VALUE)
+            .toList();
+    }
+
     @Override
     public List<Product> findAllByIdIn(final List<UUID> ids) {
         return products.values()
@@ -36,4 +49,11 @@ public class InMemoryProductRepository implements ProductRepository {
             .filter(product -> ids.contains(product.getId()))
             .toList();
     }
+
+    @Override
+    public void insertAll(final List<Product> products) {
+        for (final Product product : products) {
+            save(product);
+        }
+    }
 }
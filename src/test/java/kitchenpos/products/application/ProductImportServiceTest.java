@@ -0,0 +1,84 @@
+package kitchenpos.products.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.products.domain.Product;
+import kitchenpos.products.domain.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ProductImportServiceTest {
+    private ProductRepository productRepository;
+    private ProductImportService productImportService;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = new InMemoryProductRepository();
+        productImportService = new ProductImportService(
+            productRepository, new FakePurgomalumClient(), new ObjectMapper(), event -> {
+            }, 2
+        );
+    }
+
+    @DisplayName("NDJSON 으로 상품을 한꺼번에 등록할 수 있다.")
+    @Test
+    void importNdjson() {
+        final String body = """
+            {"name": "후라이드", "price": 16000}
+            {"name": "양념치킨", "price": 17000}
+
+            {"name": "간장치킨", "price": 17000}
+            """;
+        final ProductImportReport actual = productImportService.importProducts(reader(body), ProductImportFormat.NDJSON);
+        assertAll(
+            () -> assertThat(actual.succeeded()).isEqualTo(3),
+            () -> assertThat(actual.failed()).isZero(),
+            () -> assertThat(productRepository.findAll()).hasSize(3)
+        );
+    }
+
+    @DisplayName("올바르지 않은 줄은 등록하지 않고 결과에 남긴다.")
+    @Test
+    void importCsv() {
+        final String body = """
+            name,price
+            후라이드,16000
+            비속어,16000
+            양념치킨,-1000
+            "치킨, 반반",18000
+            가격없음
+            """;
+        final ProductImportReport actual = productImportService.importProducts(reader(body), ProductImportFormat.CSV);
+        assertAll(
+            () -> assertThat(actual.succeeded()).isEqualTo(2),
+            () -> assertThat(actual.failed()).isEqualTo(3),
+            () -> assertThat(actual.failures())
+                .extracting(ProductImportResult::line)
+                .containsExactly(3L, 4L, 6L),
+            () -> assertThat(productRepository.findAll())
+                .extracting(Product::getName)
+                .containsExactlyInAnyOrder("후라이드", "치킨, 반반")
+        );
+    }
+
+    @DisplayName("실패한 줄은 정해진 수까지만 결과에 남기고 나머지는 세기만 한다.")
+    @Test
+    void importWithManyFailures() {
+        final String body = "가격없음\n".repeat(1_001);
+        final ProductImportReport actual = productImportService.importProducts(reader(body), ProductImportFormat.CSV);
+        assertAll(
+            () -> assertThat(actual.failed()).isEqualTo(1_001),
+            () -> assertThat(actual.failures()).hasSize(1_000)
+        );
+    }
+
+    private BufferedReader reader(final String body) {
+        return new BufferedReader(new StringReader(body));
+    }
+}
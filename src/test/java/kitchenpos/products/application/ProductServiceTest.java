@@ -1,9 +1,12 @@
 package kitchenpos.products.application;
 
+import kitchenpos.common.domain.Money;
 import kitchenpos.menus.application.InMemoryMenuRepository;
 import kitchenpos.menus.domain.Menu;
 import kitchenpos.menus.domain.MenuRepository;
 import kitchenpos.products.domain.Product;
+import kitchenpos.products.domain.ProductPriceChange;
+import kitchenpos.products.domain.ProductPriceChangeRepository;
 import kitchenpos.products.domain.ProductRepository;
 import kitchenpos.products.infra.PurgomalumClient;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,9 +15,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.UUID;
 
 import static kitchenpos.Fixtures.menu;
@@ -25,8 +33,11 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 class ProductServiceTest {
+    private static final Duration MAX_STALENESS = Duration.ofSeconds(10);
+
     private ProductRepository productRepository;
     private MenuRepository menuRepository;
+    private ProductPriceChangeRepository productPriceChangeRepository;
     private PurgomalumClient purgomalumClient;
     private ProductService productService;
 
@@ -34,8 +45,15 @@ class ProductServiceTest {
     void setUp() {
         productRepository = new InMemoryProductRepository();
         menuRepository = new InMemoryMenuRepository();
+        productPriceChangeRepository = new InMemoryProductPriceChangeRepository();
         purgomalumClient = new FakePurgomalumClient();
-        productService = new ProductService(productRepository, menuRepository, purgomalumClient);
+        productService = new ProductService(
+            productRepository,
+            new MenuRevalidator(menuRepository, productPriceChangeRepository, false, MAX_STALENESS),
+            purgomalumClient,
+            event -> {
+            }
+        );
     }
 
     @DisplayName("상품을 등록할 수 있다.")
@@ -100,6 +118,128 @@ class ProductServiceTest {
         assertThat(menuRepository.findById(menu.getId()).get().isDisplayed()).isFalse();
     }
 
+    @DisplayName("상품의 가격이 변경되면 메뉴에 속한 상품 금액의 합도 함께 변경된다.")
+    @Test
+    void changePriceUpdatesProductPriceSum() {
+        final Product product = productRepository.save(product("후라이드", 16_000L));
+        final Menu menu = menuRepository.save(menu(19_000L, true, menuProduct(product, 2L)));
+        productService.changePrice(product.getId(), changePriceRequest(17_000L));
+        final Menu actual = menuRepository.findById(menu.getId()).get();
+        assertAll(
+            () -> assertThat(actual.getProductPriceSum()).isEqualTo(Money.won(34_000L)),
+            () -> assertThat(actual.isDisplayed()).isTrue()
+        );
+    }
+
+    @DisplayName("메뉴를 나중에 검증하면 상품의 가격 변경만 기록해 둔다.")
+    @Test
+    void changePriceWithAsyncMenuRevalidation() {
+        final MenuRevalidator menuRevalidator = new MenuRevalidator(menuRepository, productPriceChangeRepository, true, MAX_STALENESS);
+        productService = new ProductService(productRepository, menuRevalidator, purgomalumClient, event -> {
+        });
+        final Product product = productRepository.save(product("후라이드", 16_000L));
+        final Menu menu = menuRepository.save(menu(19_000L, true, menuProduct(product, 2L)));
+        productService.changePrice(product.getId(), changePriceRequest(9_000L));
+        productService.changePrice(product.getId(), changePriceRequest(8_000L));
+        final List<ProductPriceChange> changes = productPriceChangeRepository.findAllByOrderBySeqAsc(Limit.unlimited());
+        assertAll(
+            () -> assertThat(changes).hasSize(2),
+            () -> assertThat(menuRepository.findById(menu.getId()).get().isDisplayed()).isTrue()
+        );
+    }
+
+    @DisplayName("메뉴를 나중에 검증해도 그 사이 등록된 메뉴의 상품 금액의 합은 어긋나지 않는다.")
+    @Test
+    void revalidateMenuCreatedAfterPriceChange() {
+        final MenuRevalidator menuRevalidator = new MenuRevalidator(menuRepository, productPriceChangeRepository, true, MAX_STALENESS);
+        productService = new ProductService(productRepository, menuRevalidator, purgomalumClient, event -> {
+        });
+        final Product product = productRepository.save(product("후라이드", 16_000L));
+        productService.changePrice(product.getId(), changePriceRequest(8_000L));
+        final Menu menu = menuRepository.save(menu(15_000L, true, menuProduct(product, 2L)));
+        menuRevalidator.revalidate(
+            productPriceChangeRepository.findAllByOrderBySeqAsc(Limit.unlimited())
+                .stream()
+                .map(ProductPriceChange::getProductId)
+                .toList()
+        );
+        final Menu actual = menuRepository.findById(menu.getId()).get();
+        assertAll(
+            () -> assertThat(actual.getProductPriceSum()).isEqualTo(Money.won(16_000L)),
+            () -> assertThat(actual.isDisplayed()).isTrue()
+        );
+    }
+
+    @DisplayName("여러 상품의 가격을 한 번에 변경하고 숨겨진 메뉴의 수를 알 수 있다.")
+    @Test
+    void changePrices() {
+        final Product fried = productRepository.save(product("후라이드", 16_000L));
+        final Product seasoned = productRepository.save(product("양념치킨", 16_000L));
+        final Menu friedMenu = menuRepository.save(menu(19_000L, true, menuProduct(fried, 2L)));
+        final Menu halfAndHalfMenu = menuRepository.save(
+            menu(30_000L, true, menuProduct(fried, 1L), menuProduct(seasoned, 1L))
+        );
+        final ProductPriceChangeResult actual = productService.changePrices(Arrays.asList(
+            changePriceRequest(fried.getId(), 9_000L),
+            changePriceRequest(seasoned.getId(), 17_000L)
+        ));
+        assertAll(
+            () -> assertThat(actual.products()).hasSize(2),
+            () -> assertThat(actual.hiddenMenuCount()).isEqualTo(2),
+            () -> assertThat(actual.menuRevalidationPending()).isFalse(),
+            () -> assertThat(menuRepository.findById(friedMenu.getId()).get().isDisplayed()).isFalse(),
+            () -> assertThat(menuRepository.findById(halfAndHalfMenu.getId()).get().isDisplayed()).isFalse(),
+            () -> assertThat(menuRepository.findById(halfAndHalfMenu.getId()).get().getProductPriceSum())
+                .isEqualTo(Money.won(26_000L))
+        );
+    }
+
+    @DisplayName("메뉴를 나중에 검증하면 숨겨진 메뉴의 수는 아직 알 수 없다.")
+    @Test
+    void changePricesWithAsyncMenuRevalidation() {
+        final MenuRevalidator menuRevalidator = new MenuRevalidator(menuRepository, productPriceChangeRepository, true, MAX_STALENESS);
+        productService = new ProductService(productRepository, menuRevalidator, purgomalumClient, event -> {
+        });
+        final Product product = productRepository.save(product("후라이드", 16_000L));
+        final Menu menu = menuRepository.save(menu(19_000L, true, menuProduct(product, 2L)));
+        final ProductPriceChangeResult actual = productService.changePrices(List.of(changePriceRequest(product.getId(), 9_000L)));
+        assertAll(
+            () -> assertThat(actual.hiddenMenuCount()).isZero(),
+            () -> assertThat(actual.menuRevalidationPending()).isTrue(),
+            () -> assertThat(menuRepository.findById(menu.getId()).get().isDisplayed()).isTrue()
+        );
+    }
+
+    @DisplayName("메뉴 검증이 허용된 시간보다 밀려 있으면 바로 메뉴를 검증한다.")
+    @Test
+    void changePricesWithLaggingMenuRevalidation() {
+        final MenuRevalidator menuRevalidator = new MenuRevalidator(menuRepository, productPriceChangeRepository, true, MAX_STALENESS);
+        menuRevalidator.lagMeasured(MAX_STALENESS.plusSeconds(1));
+        productService = new ProductService(productRepository, menuRevalidator, purgomalumClient, event -> {
+        });
+        final Product product = productRepository.save(product("후라이드", 16_000L));
+        final Menu menu = menuRepository.save(menu(19_000L, true, menuProduct(product, 2L)));
+        final ProductPriceChangeResult actual = productService.changePrices(List.of(changePriceRequest(product.getId(), 9_000L)));
+        assertAll(
+            () -> assertThat(actual.hiddenMenuCount()).isEqualTo(1),
+            () -> assertThat(actual.menuRevalidationPending()).isFalse(),
+            () -> assertThat(productPriceChangeRepository.findAllByOrderBySeqAsc(Limit.unlimited())).isEmpty(),
+            () -> assertThat(menuRepository.findById(menu.getId()).get().isDisplayed()).isFalse()
+        );
+    }
+
+    @DisplayName("등록되지 않은 상품이 있으면 가격을 한 번에 변경할 수 없다.")
+    @Test
+    void changePricesWithUnknownProduct() {
+        final Product product = productRepository.save(product("후라이드", 16_000L));
+        final List<Product> requests = Arrays.asList(
+            changePriceRequest(product.getId(), 15_000L),
+            changePriceRequest(UUID.randomUUID(), 15_000L)
+        );
+        assertThatThrownBy(() -> productService.changePrices(requests))
+            .isInstanceOf(NoSuchElementException.class);
+    }
+
     @DisplayName("상품의 목록을 조회할 수 있다.")
     @Test
     void findAll() {
@@ -109,11 +249,50 @@ class ProductServiceTest {
         assertThat(actual).hasSize(2);
     }
 
+    @DisplayName("상품의 목록을 나누어 조회할 수 있다.")
+    @Test
+    void findAllByCursor() {
+        productRepository.save(product("후라이드", 16_000L));
+        productRepository.save(product("양념치킨", 16_000L));
+        productRepository.save(product("간장치킨", 17_000L));
+        final List<Product> first = productService.findAll(null, 2);
+        final List<Product> second = productService.findAll(first.get(1).getId(), 2);
+        assertAll(
+            () -> assertThat(first).hasSize(2),
+            () -> assertThat(second).hasSize(1),
+            () -> assertThat(second).doesNotContainAnyElementsOf(first)
+        );
+    }
+
+    @DisplayName("상품의 목록은 식별자의 부호 없는 바이트 순서로 나누어 조회한다.")
+    @Test
+    void findAllByCursorInUnsignedOrder() {
+        final Product low = product("후라이드", 16_000L);
+        low.setId(new UUID(0x0000000000000001L, 1L));
+        final Product high = product("양념치킨", 16_000L);
+        high.setId(new UUID(0x8000000000000000L, 1L));
+        final Product highest = product("간장치킨", 17_000L);
+        highest.setId(new UUID(0xFFFFFFFFFFFFFFFFL, 1L));
+        productRepository.save(highest);
+        productRepository.save(high);
+        productRepository.save(low);
+        final List<Product> first = productService.findAll(null, 2);
+        final List<Product> second = productService.findAll(first.get(1).getId(), 2);
+        assertAll(
+            () -> assertThat(first).extracting(Product::getId).containsExactly(low.getId(), high.getId()),
+            () -> assertThat(second).extracting(Product::getId).containsExactly(highest.getId())
+        );
+    }
+
     private Product createProductRequest(final String name, final long price) {
-        return createProductRequest(name, BigDecimal.valueOf(price));
+        return createProductRequest(name, Money.won(price));
     }
 
     private Product createProductRequest(final String name, final BigDecimal price) {
+        return createProductRequest(name, Objects.isNull(price) ? null : Money.from(price));
+    }
+
+    private Product createProductRequest(final String name, final Money price) {
         final Product product = new Product();
         product.setName(name);
         product.setPrice(price);
@@ -121,10 +300,20 @@ class ProductServiceTest {
     }
 
     private Product changePriceRequest(final long price) {
-        return changePriceRequest(BigDecimal.valueOf(price));
+        return changePriceRequest(Money.won(price));
+    }
+
+    private Product changePriceRequest(final UUID productId, final long price) {
+        final Product product = changePriceRequest(price);
+        product.setId(productId);
+        return product;
     }
 
     private Product changePriceRequest(final BigDecimal price) {
+        return changePriceRequest(Objects.isNull(price) ? null : Money.from(price));
+    }
+
+    private Product changePriceRequest(final Money price) {
         final Product product = new Product();
         product.setPrice(price);
         return product;
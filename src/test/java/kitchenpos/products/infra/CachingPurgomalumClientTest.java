@@ -0,0 +1,131 @@
+package kitchenpos.products.infra;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class CachingPurgomalumClientTest {
+    private CountingPurgomalumClient delegate;
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new CountingPurgomalumClient();
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+    }
+
+    @DisplayName("같은 이름은 다시 검사하지 않는다.")
+    @Test
+    void hit() {
+        final CachingPurgomalumClient client = new CachingPurgomalumClient(delegate, 10, Duration.ofMinutes(1), clock);
+        client.containsProfanity("후라이드");
+        client.containsProfanity("비속어");
+        final boolean actual = client.containsProfanity("비속어");
+        assertAll(
+            () -> assertThat(actual).isTrue(),
+            () -> assertThat(delegate.count).isEqualTo(2),
+            () -> assertThat(client.stats().hitCount()).isEqualTo(1),
+            () -> assertThat(client.stats().missCount()).isEqualTo(2)
+        );
+    }
+
+    @DisplayName("유효 시간이 지나면 다시 검사한다.")
+    @Test
+    void expire() {
+        final CachingPurgomalumClient client = new CachingPurgomalumClient(delegate, 10, Duration.ofMinutes(1), clock);
+        client.containsProfanity("후라이드");
+        clock.advance(Duration.ofMinutes(1));
+        client.containsProfanity("후라이드");
+        assertAll(
+            () -> assertThat(delegate.count).isEqualTo(2),
+            () -> assertThat(client.stats().evictionCount()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 이름을 내보낸다.")
+    @Test
+    void evictLeastRecentlyUsed() {
+        final CachingPurgomalumClient client = new CachingPurgomalumClient(delegate, 2, Duration.ofMinutes(1), clock);
+        client.containsProfanity("후라이드");
+        client.containsProfanity("양념치킨");
+        client.containsProfanity("후라이드");
+        client.containsProfanity("간장치킨");
+        client.containsProfanity("후라이드");
+        assertAll(
+            () -> assertThat(delegate.count).isEqualTo(3),
+            () -> assertThat(client.stats().evictionCount()).isEqualTo(1),
+            () -> assertThat(client.stats().size()).isEqualTo(2)
+        );
+    }
+
+    @DisplayName("여러 이름을 한 번에 검사하면 캐시에 없는 이름만 다시 검사한다.")
+    @Test
+    void containsProfanities() {
+        final CachingPurgomalumClient client = new CachingPurgomalumClient(delegate, 10, Duration.ofMinutes(1), clock);
+        client.containsProfanity("후라이드");
+        final Map<String, Boolean> actual = client.containsProfanities(List.of("후라이드", "비속어", "후라이드"));
+        assertAll(
+            () -> assertThat(actual).containsEntry("후라이드", false).containsEntry("비속어", true),
+            () -> assertThat(delegate.count).isEqualTo(2),
+            () -> assertThat(client.stats().hitCount()).isEqualTo(1),
+            () -> assertThat(client.stats().size()).isEqualTo(2)
+        );
+    }
+
+    @DisplayName("이름이 없으면 검사할 수 없다.")
+    @Test
+    void nullText() {
+        final CachingPurgomalumClient client = new CachingPurgomalumClient(delegate, 10, Duration.ofMinutes(1), clock);
+        assertThatThrownBy(() -> client.containsProfanity(null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static class CountingPurgomalumClient implements PurgomalumClient {
+        private int count;
+
+        @Override
+        public boolean containsProfanity(final String text) {
+            count++;
+            return text.contains("비속어");
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package kitchenpos.products.infra;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class DefaultPurgomalumClientTest {
+    private CountingPurgomalumClient client;
+
+    @BeforeEach
+    void setUp() {
+        client = new CountingPurgomalumClient();
+    }
+
+    @DisplayName("비속어가 없으면 여러 이름을 한 번의 요청으로 검사한다.")
+    @Test
+    void containsProfanities() {
+        final List<String> names = names(100);
+        final Map<String, Boolean> actual = client.containsProfanities(names);
+        assertAll(
+            () -> assertThat(actual).hasSize(100).doesNotContainValue(true),
+            () -> assertThat(client.count).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("비속어가 있으면 나누어 다시 검사해 해당 이름만 찾아낸다.")
+    @Test
+    void containsProfanitiesWithProfanity() {
+        final List<String> names = names(100);
+        names.set(42, "비속어");
+        final Map<String, Boolean> actual = client.containsProfanities(names);
+        assertAll(
+            () -> assertThat(actual).hasSize(100).containsEntry("비속어", true),
+            () -> assertThat(actual.values()).containsOnlyOnce(true),
+            () -> assertThat(client.count).isLessThan(20)
+        );
+    }
+
+    @DisplayName("요청 하나에 담을 수 있는 길이를 넘으면 나누어 요청한다.")
+    @Test
+    void containsProfanitiesOverBatchLength() {
+        final List<String> names = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            names.add(String.valueOf(i).repeat(600));
+        }
+        client.containsProfanities(names);
+        assertThat(client.count).isEqualTo(3);
+    }
+
+    @DisplayName("이름이 없으면 검사할 수 없다.")
+    @Test
+    void nullText() {
+        final List<String> names = new ArrayList<>(names(2));
+        names.add(null);
+        assertThatThrownBy(() -> client.containsProfanities(names))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<String> names(final int count) {
+        final List<String> names = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            names.add("상품" + i);
+        }
+        return names;
+    }
+
+    private static class CountingPurgomalumClient extends DefaultPurgomalumClient {
+        private int count;
+
+        CountingPurgomalumClient() {
+            super(new RestTemplateBuilder());
+        }
+
+        @Override
+        public boolean containsProfanity(final String text) {
+            count++;
+            return text.contains("비속어");
+        }
+    }
+}
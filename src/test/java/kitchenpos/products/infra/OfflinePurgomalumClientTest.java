@@ -0,0 +1,50 @@
+package kitchenpos.products.infra;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OfflinePurgomalumClientTest {
+    private PurgomalumClient purgomalumClient;
+
+    @BeforeEach
+    void setUp() {
+        purgomalumClient = new OfflinePurgomalumClient(Arrays.asList("비속어", "욕설", "damn", "he", "she", "hers"));
+    }
+
+    @DisplayName("비속어가 포함된 이름을 찾는다.")
+    @ValueSource(strings = {"비속어", "욕설이 포함된 이름", "DAMN chicken", "ushers"})
+    @ParameterizedTest
+    void containsProfanity(final String text) {
+        assertThat(purgomalumClient.containsProfanity(text)).isTrue();
+    }
+
+    @DisplayName("비속어가 없는 이름은 통과한다.")
+    @ValueSource(strings = {"후라이드", "양념치킨", "Fried chicken", "비속"})
+    @ParameterizedTest
+    void notContainsProfanity(final String text) {
+        assertThat(purgomalumClient.containsProfanity(text)).isFalse();
+    }
+
+    @DisplayName("자모로 분리되어 입력된 한글도 찾는다.")
+    @Test
+    void decomposedHangul() {
+        final String decomposed = Normalizer.normalize("욕설", Normalizer.Form.NFD);
+        assertThat(purgomalumClient.containsProfanity(decomposed)).isTrue();
+    }
+
+    @DisplayName("이름이 없으면 검사할 수 없다.")
+    @Test
+    void nullText() {
+        assertThatThrownBy(() -> purgomalumClient.containsProfanity(null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}